@@ -0,0 +1,48 @@
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH microbenchmarks for the card, deck and scoring hot paths, reporting throughput with the GC profiler's
+ * allocation rate (gc.alloc.rate.norm is bytes allocated per operation) alongside each result.
+ *
+ * The benchmarks need JMH 1.37 on the class path: jmh-core, jmh-generator-annprocess (which generates the benchmark
+ * list while compiling), jopt-simple and commons-math3. With those jars in bench/lib:
+ *
+ * <pre>
+ * javac -cp "bench/lib/*" -d out/bench src/*.java bench/*.java
+ * java -cp "out/bench:bench/lib/*" BenchmarkRunner
+ * java -cp "out/bench:bench/lib/*" BenchmarkRunner HandBenchmark -p handSize=3
+ * </pre>
+ *
+ * Any JMH command-line options may be given, e.g. a benchmark name pattern or -p to pick parameter values.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class BenchmarkRunner
+{
+    public static void main(String[] args) throws RunnerException
+    {
+        Options options;
+
+        try
+        {
+            options = new OptionsBuilder()
+                    .parent(new CommandLineOptions(args))
+                    .addProfiler(GCProfiler.class)
+                    .build();
+        }
+        catch (Exception e)
+        {
+            System.err.println("Usage: java BenchmarkRunner [JMH options] [benchmark pattern]: " + e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        new Runner(options).run();
+    }
+}
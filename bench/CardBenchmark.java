@@ -0,0 +1,113 @@
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the Card operations that collections and sorting lean on: sorting with CardComparator, and
+ * Card.hashCode() and equals() over a run of cards, for a hand, a deck and a six-deck shoe. Equality is checked both
+ * against the same canonical cards, which the identity check answers, and against equal copies, which compare every
+ * field.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CardBenchmark
+{
+    private static final CardComparator COMPARATOR = new CardComparator();
+
+    @Param({ "5", "52", "312" })
+    int cardCount;
+
+    private Card[] cards;
+    private Card[] same;
+    private Card[] copies;
+    private Card[] work;
+
+    @Setup
+    public void setUp()
+    {
+        List<Card> shoe = new Shoe(6, Shoe.DEFAULT_PENETRATION, RandomSource.create("L64X128MixRandom", 6)).getCards();
+
+        cards = shoe.subList(0, cardCount).toArray(new Card[0]);
+        same = new Card[cardCount];
+        copies = new Card[cardCount];
+        work = new Card[cardCount];
+
+        for (int i = 0; i < cardCount; i++)
+        {
+            Card card = cards[i];
+
+            copies[i] = new Card(card.getSuit(), card.getRank(), card.getName());
+            cards[i] = Card.of(card.getSuit(), card.getRank());
+            same[i] = Card.of(card.getSuit(), card.getRank());
+        }
+    }
+
+    /**
+     * Sorts a shuffled run of cards. The copy into the work array is part of every operation.
+     */
+    @Benchmark
+    public Card[] sort()
+    {
+        System.arraycopy(cards, 0, work, 0, cardCount);
+        Arrays.sort(work, COMPARATOR);
+        return work;
+    }
+
+    @Benchmark
+    public int hashCodes()
+    {
+        int hash = 0;
+
+        for (Card card : cards)
+        {
+            hash += card.hashCode();
+        }
+
+        return hash;
+    }
+
+    @Benchmark
+    public int equalsSame()
+    {
+        int equal = 0;
+
+        for (int i = 0; i < cardCount; i++)
+        {
+            equal += cards[i].equals(same[i]) ? 1 : 0;
+        }
+
+        return equal;
+    }
+
+    @Benchmark
+    public int equalsCopy()
+    {
+        int equal = 0;
+
+        for (int i = 0; i < cardCount; i++)
+        {
+            equal += cards[i].equals(copies[i]) ? 1 : 0;
+        }
+
+        return equal;
+    }
+}
@@ -0,0 +1,109 @@
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks building and dealing decks: BlackJackDeck.buildDeck(), Shoe.buildDeck(), Deck.deal() and
+ * BlackJackDealer.deal(), over shoes of 1 to 8 decks. Every deck is shuffled by a seeded generator so runs are
+ * comparable.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeckBenchmark
+{
+    /**
+     * A single Blackjack deck.
+     */
+    @State(Scope.Thread)
+    public static class SingleDeck
+    {
+        BlackJackDeck deck;
+
+        @Setup
+        public void setUp()
+        {
+            deck = new BlackJackDeck(RandomSource.create("L64X128MixRandom", 1));
+        }
+    }
+
+    /**
+     * A shoe, and a dealer dealing from a shoe of the same size.
+     */
+    @State(Scope.Thread)
+    public static class Shoes
+    {
+        @Param({ "1", "2", "6", "8" })
+        int decks;
+
+        Shoe shoe;
+        List<Card> cards;
+        BlackJackDealer dealer;
+
+        @Setup
+        public void setUp()
+        {
+            shoe = new Shoe(decks, Shoe.DEFAULT_PENETRATION, RandomSource.create("L64X128MixRandom", 2));
+            cards = List.copyOf(shoe.getCards());
+            dealer = new BlackJackDealer(2500, new Shoe(decks, Shoe.DEFAULT_PENETRATION,
+                                                        RandomSource.create("L64X128MixRandom", 3)));
+        }
+    }
+
+    @Benchmark
+    public Deck buildBlackJackDeck(SingleDeck state)
+    {
+        state.deck.buildDeck();
+        return state.deck;
+    }
+
+    @Benchmark
+    public Deck buildShoe(Shoes state)
+    {
+        state.shoe.buildDeck();
+        return state.shoe;
+    }
+
+    /**
+     * Deals one card. An empty shoe is refilled in the same order, which reuses its storage and costs far less than a
+     * shuffle, so the result is close to the cost of dealing alone.
+     */
+    @Benchmark
+    public Card deal(Shoes state)
+    {
+        Card card = state.shoe.deal();
+
+        if (card == null)
+        {
+            state.shoe.setCards(state.cards);
+            card = state.shoe.deal();
+        }
+
+        return card;
+    }
+
+    /**
+     * Deals one card the way the table does, including the dealer's reshuffle once every card has been dealt.
+     */
+    @Benchmark
+    public Card dealerDeal(Shoes state)
+    {
+        return state.dealer.deal();
+    }
+}
@@ -0,0 +1,184 @@
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks scoring hands: BlackJackPlayer.scoreHand() and hasBlackJack() on a dealt hand, dealing and scoring a
+ * Blackjack hand from scratch, and PokerPlayer.scoreHand(), for hands of 2 to 8 cards. Poker hands of more than three
+ * cards score as their best three, so their cost grows with the hand.
+ *
+ * It also benchmarks showdown evaluation: PokerHandEvaluator.evaluate5() and evaluate7() on encoded cards, and
+ * PokerPlayer.getHandStrength() on a seven-card hand. Each call evaluates the next of 1,024 dealt hands, so the result
+ * is not flattered by the branch predictor learning a single hand. The evaluate7 result, in operations per
+ * microsecond, is the measure of PokerHandEvaluator's target of hundreds of millions of evaluations per second.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandBenchmark
+{
+    /**
+     * A Blackjack hand and a Poker hand of the same size.
+     */
+    @State(Scope.Thread)
+    public static class Hands
+    {
+        @Param({ "2", "3", "5", "8" })
+        int handSize;
+
+        Card[] cards;
+        BlackJackPlayer blackJackPlayer;
+        BlackJackPlayer dealtPlayer;
+        PokerPlayer pokerPlayer;
+
+        @Setup
+        public void setUp()
+        {
+            BlackJackDeck blackJackDeck = new BlackJackDeck(RandomSource.create("L64X128MixRandom", 4));
+            PokerDeck pokerDeck = new PokerDeck(RandomSource.create("L64X128MixRandom", 5));
+
+            cards = new Card[handSize];
+            blackJackPlayer = new BlackJackPlayer();
+            dealtPlayer = new BlackJackPlayer();
+            pokerPlayer = new PokerPlayer();
+
+            for (int i = 0; i < handSize; i++)
+            {
+                cards[i] = blackJackDeck.deal();
+                blackJackPlayer.receiveCard(cards[i], true);
+                pokerPlayer.receiveCard(pokerDeck.deal(), true);
+            }
+        }
+    }
+
+    /**
+     * Seven-card showdown hands, as encoded cards and as Poker players holding them, taken in turn.
+     */
+    @State(Scope.Thread)
+    public static class Showdowns
+    {
+        static final int HANDS = 1024;
+
+        byte[] cards;
+        PokerPlayer[] players;
+        int next;
+
+        @Setup
+        public void setUp()
+        {
+            ByteDeck deck = new ByteDeck(1, RandomSource.create("L64X128MixRandom", 6));
+
+            cards = new byte[HANDS * 7];
+            players = new PokerPlayer[HANDS];
+
+            for (int hand = 0; hand < HANDS; hand++)
+            {
+                if (deck.cardsLeftInDeck() < 7)
+                {
+                    deck.shuffle();
+                }
+
+                players[hand] = new PokerPlayer();
+
+                for (int i = hand * 7; i < hand * 7 + 7; i++)
+                {
+                    cards[i] = deck.deal();
+                    players[hand].receiveCard(CardCodec.toCard(cards[i]), true);
+                }
+            }
+        }
+
+        /**
+         * Moves on to the next hand.
+         *
+         * @return The hand's number.
+         */
+        int nextHand()
+        {
+            next = (next + 1) & (HANDS - 1);
+            return next;
+        }
+    }
+
+    @Benchmark
+    public int blackJackScoreHand(Hands state)
+    {
+        return state.blackJackPlayer.scoreHand();
+    }
+
+    @Benchmark
+    public boolean blackJackHasBlackJack(Hands state)
+    {
+        return state.blackJackPlayer.hasBlackJack();
+    }
+
+    /**
+     * Clears a hand, deals it again and scores it, as every round at the table does.
+     */
+    @Benchmark
+    public int blackJackDealAndScore(Hands state)
+    {
+        state.dealtPlayer.clearHand();
+
+        for (Card card : state.cards)
+        {
+            state.dealtPlayer.receiveCard(card, true);
+        }
+
+        return state.dealtPlayer.hasBlackJack() ? 21 : state.dealtPlayer.scoreHand();
+    }
+
+    @Benchmark
+    public int pokerScoreHand(Hands state)
+    {
+        return state.pokerPlayer.scoreHand();
+    }
+
+    /**
+     * Evaluates the first five cards of the next hand.
+     */
+    @Benchmark
+    public int evaluate5(Showdowns state)
+    {
+        byte[] c = state.cards;
+        int i = state.nextHand() * 7;
+
+        return PokerHandEvaluator.evaluate5(c[i], c[i + 1], c[i + 2], c[i + 3], c[i + 4]);
+    }
+
+    /**
+     * Evaluates the best five cards of the next seven-card hand.
+     */
+    @Benchmark
+    public int evaluate7(Showdowns state)
+    {
+        byte[] c = state.cards;
+        int i = state.nextHand() * 7;
+
+        return PokerHandEvaluator.evaluate7(c[i], c[i + 1], c[i + 2], c[i + 3], c[i + 4], c[i + 5], c[i + 6]);
+    }
+
+    /**
+     * Evaluates the next seven-card hand the way a showdown at the table does, from the player's list of cards.
+     */
+    @Benchmark
+    public int pokerHandStrength(Showdowns state)
+    {
+        return state.players[state.nextHand()].getHandStrength();
+    }
+}
@@ -0,0 +1,258 @@
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Measures the whole game loop: BlackJackTable.play() reading scripted commands through a GameIO, printing every
+ * prompt and hand into its output buffer and flushing it once per prompt, and logging through LogHelper, as a console
+ * game does. The output is thrown away, but only after it has been encoded and written, so printing costs what it
+ * costs on a terminal less the terminal.
+ *
+ * Each session is a new table fed a script of rounds. A script can't know what will be dealt, so some of its commands
+ * misfire: "stay" after a Blackjack or a bust, or "double down" after a Blackjack, arrives at the "another round?"
+ * prompt instead. The table answers it with an error and asks again, and the next "yes" starts the next round. These
+ * misfires are counted and reported separately. The last "yes" is replaced by "no", which ends the session. play()
+ * returns when the game ends, so one JVM plays every session. A DOUBLE session whose player is left with too little
+ * to double down can't get back in step; it is reported as unfinished, and the errors for the rest of its script
+ * aren't counted as misfires.
+ *
+ * A round is timed from the end of one settled round to the end of the next, i.e. from one flush of the output holding
+ * the "Round over!" summary to the next, so it covers the answer, the bet, the deal, the player's commands, any
+ * misfired command, the settlement and writing it all out. A round that ends the game isn't timed. Before the rounds
+ * asked for are measured, a tenth as many again are played to warm up the JIT and aren't counted.
+ *
+ * The table logs to blackjack.log in the working directory, which a long run fills with a warning for every misfire,
+ * so run it from a scratch directory rather than from the repository. For example:
+ *
+ * <pre>
+ * mkdir -p /tmp/blackjack-bench &amp;&amp; cd /tmp/blackjack-bench
+ * java -cp ~/console-blackjack/out/main:~/console-blackjack/out/bench TableBenchmark 200000 hit
+ * java -cp ~/console-blackjack/out/main:~/console-blackjack/out/bench TableBenchmark 200000 stay --no-log
+ * </pre>
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class TableBenchmark
+{
+    private static final int ROUNDS_PER_SESSION = 1000;
+
+    /**
+     * The commands played each round. Every script ends with "yes", and bets $10 so the stashes stay multiples of 10.
+     * Doubling down takes one card and stays, so DOUBLE has no "stay" of its own.
+     */
+    private enum Script
+    {
+        STAY("10\nstay\nyes\n"),
+        HIT("10\nhit\nstay\nyes\n"),
+        DOUBLE("10\ndouble down\nyes\n"),
+        HINT("10\nhint\nstay\nyes\n");
+
+        private final String round;
+
+        Script(String round)
+        {
+            this.round = round;
+        }
+    }
+
+    private final Script script;
+    private final long[] latencies;
+    private final int warmUp;
+    private int rounds;
+    private long lastRoundEnd;
+    private long sessions;
+    private long unfinishedSessions;
+    private long misfires;
+    private boolean stalled;
+
+    private TableBenchmark(Script script, int rounds)
+    {
+        this.script = script;
+        this.warmUp = rounds / 10;
+        this.latencies = new long[warmUp + rounds];
+    }
+
+    public static void main(String[] args)
+    {
+        int rounds = 0;
+        Script script = Script.STAY;
+        boolean log = true;
+
+        try
+        {
+            rounds = Integer.parseInt(args[0]);
+            for (int i = 1; i < args.length; i++)
+            {
+                if (args[i].equals("--no-log"))
+                {
+                    log = false;
+                }
+                else
+                {
+                    script = Script.valueOf(args[i].toUpperCase());
+                }
+            }
+        }
+        catch (RuntimeException e)
+        {
+            rounds = 0;
+        }
+
+        if (rounds <= 0)
+        {
+            System.err.println("Usage: java TableBenchmark <rounds> [stay|hit|double|hint] [--no-log]");
+            System.exit(2);
+        }
+
+        if (!log)
+        {
+            Logger.getLogger(BlackJackTable.class.getName()).setLevel(Level.WARNING);
+            Logger.getLogger(Player.class.getName()).setLevel(Level.WARNING);
+        }
+
+        TableBenchmark benchmark = new TableBenchmark(script, rounds);
+
+        benchmark.run();
+        benchmark.report();
+    }
+
+    private void run()
+    {
+        byte[] input = sessionScript();
+        RoundTimer timer = new RoundTimer();
+
+        while (rounds < latencies.length)
+        {
+            BlackJackTable table = new BlackJackTable(new GameIO(new ByteArrayInputStream(input), timer));
+
+            sessions++;
+            stalled = false;
+            lastRoundEnd = System.nanoTime();
+
+            if (table.play().getEnding() == GameResult.Ending.INPUT_ENDED)
+            {
+                // The script ran out before the game ended, which a misstep in the script would cause
+                unfinishedSessions++;
+            }
+        }
+    }
+
+    private byte[] sessionScript()
+    {
+        String round = script.round;
+        String session = round.repeat(ROUNDS_PER_SESSION);
+
+        return (session.substring(0, session.length() - "yes\n".length()) + "no\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void roundOver()
+    {
+        long now = System.nanoTime();
+
+        if (rounds < latencies.length)
+        {
+            latencies[rounds++] = now - lastRoundEnd;
+        }
+        lastRoundEnd = now;
+    }
+
+    private void report()
+    {
+        long[] measured = Arrays.copyOfRange(latencies, warmUp, rounds);
+        long total = 0;
+
+        for (long latency : measured)
+        {
+            total += latency;
+        }
+        Arrays.sort(measured);
+
+        System.out.printf("Script %s: %d rounds in %d sessions (%d unfinished), %d misfired commands%n",
+                          script.name().toLowerCase(), measured.length, sessions, unfinishedSessions, misfires);
+        System.out.printf("Throughput: %.0f rounds/s%n", measured.length / (total / 1e9));
+        System.out.printf("Latency per round (us): mean %.1f, p50 %.1f, p90 %.1f, p99 %.1f, p99.9 %.1f, max %.1f%n",
+                          total / 1e3 / measured.length, percentile(measured, 0.5), percentile(measured, 0.9),
+                          percentile(measured, 0.99), percentile(measured, 0.999), measured[measured.length - 1] / 1e3);
+    }
+
+    private static double percentile(long[] sorted, double fraction)
+    {
+        return sorted[(int) Math.min(sorted.length - 1, Math.round(fraction * (sorted.length - 1)))] / 1e3;
+    }
+
+    /**
+     * Discards the table's output, noting the time whenever a round is settled and counting every misfired command.
+     */
+    private final class RoundTimer extends OutputStream
+    {
+        private final Marker roundOver = new Marker("Round over!");
+        private final Marker misfire = new Marker("Please enter a valid option");
+        private final Marker cannotDouble = new Marker("doesn't have enough money to double down");
+
+        @Override
+        public void write(int b)
+        {
+            if (roundOver.matches(b))
+            {
+                roundOver();
+            }
+            if (misfire.matches(b) && !stalled)
+            {
+                misfires++;
+            }
+            if (cannotDouble.matches(b))
+            {
+                stalled = true;
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length)
+        {
+            for (int i = offset; i < offset + length; i++)
+            {
+                write(bytes[i]);
+            }
+        }
+    }
+
+    /**
+     * Spots a line of the table's output in its bytes as they go past.
+     */
+    private static final class Marker
+    {
+        private final byte[] text;
+        private int matched;
+
+        private Marker(String text)
+        {
+            this.text = text.getBytes(StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Adds a byte of output. None of the markers repeats its first byte, so a mismatch only needs to check whether
+         * the byte starts a new match.
+         *
+         * @return true if the byte completes the marker.
+         */
+        private boolean matches(int b)
+        {
+            if (b == text[matched])
+            {
+                if (++matched == text.length)
+                {
+                    matched = 0;
+                    return true;
+                }
+                return false;
+            }
+
+            matched = (b == text[0]) ? 1 : 0;
+            return false;
+        }
+    }
+}
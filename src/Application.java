@@ -1,6 +1,7 @@
 /**
  * Entry point for the Blackjack and Poker application. This class sets up the game environment by initializing the game
- * table and starting the main game loop. Currently, it launches a Blackjack game by default.
+ * table and starting the main game loop, then exits with the status the game ended with. Currently, it launches a
+ * Blackjack game by default.
  *
  * @author Tyler Lang
  * @version 2025.04.03
@@ -9,6 +10,6 @@ public class Application
 {
     public static void main(String[] args)
     {
-        new BlackJackTable().play();
+        System.exit(new BlackJackTable().play().getExitStatus());
     }
 }
@@ -0,0 +1,277 @@
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.SimpleFormatter;
+
+/**
+ * A logging Handler that hands records to a single background thread instead of writing them on the thread that logs.
+ * Records wait in a bounded ring buffer; the writer thread takes them off in batches, formats them, and writes and
+ * flushes each batch in one go, so the game thread never waits on the file or pays for formatting.
+ *
+ * When the buffer is full, a handler in blocking mode makes the logging thread wait for space, so nothing is lost. A
+ * handler in dropping mode throws the record away instead, so a burst of logging can never slow the game down; the
+ * number of dropped records is counted and noted in the log once there is room again.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public final class AsyncLogHandler extends Handler
+{
+    /**
+     * What publish() does when the buffer is full.
+     */
+    public enum Overflow
+    {
+        BLOCK,
+        DROP
+    }
+
+    private static final int MAX_BATCH = 256;
+
+    private final ArrayBlockingQueue<LogRecord> buffer;
+    private final Overflow overflow;
+    private final Writer writer;
+    private final Thread worker;
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicInteger publishing = new AtomicInteger();
+    private long written;
+    private long droppedReported;
+    private volatile boolean closed;
+
+    /**
+     * Constructs a handler that appends to the given file, and starts its writer thread.
+     *
+     * @param fileName The file to append to.
+     * @param capacity The number of records the buffer holds.
+     * @param overflow What to do when the buffer is full.
+     * @throws IOException if the file cannot be opened.
+     */
+    public AsyncLogHandler(String fileName, int capacity, Overflow overflow) throws IOException
+    {
+        this(new OutputStreamWriter(new FileOutputStream(fileName, true), StandardCharsets.UTF_8), capacity, overflow);
+    }
+
+    /**
+     * Constructs a handler that writes to the given writer, and starts its writer thread.
+     *
+     * @param writer   The destination for formatted records. It is closed along with the handler.
+     * @param capacity The number of records the buffer holds.
+     * @param overflow What to do when the buffer is full.
+     * @throws IllegalArgumentException if the capacity is not positive.
+     */
+    public AsyncLogHandler(Writer writer, int capacity, Overflow overflow)
+    {
+        if (capacity <= 0)
+        {
+            throw new IllegalArgumentException("The log buffer must hold at least one record");
+        }
+
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.overflow = overflow;
+        this.writer = new BufferedWriter(writer);
+
+        setFormatter(new SimpleFormatter());
+
+        worker = new Thread(this::writeRecords, "blackjack-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Queues a record to be written, if it is loggable. The message has already been built by the time a record gets
+     * here, but formatting and writing it happen on the writer thread.
+     *
+     * @param record The record to log.
+     */
+    @Override
+    public void publish(LogRecord record)
+    {
+        // Counted before closed is checked, so that close() waits for any record that got past the check
+        publishing.incrementAndGet();
+
+        try
+        {
+            if (closed || !isLoggable(record))
+            {
+                return;
+            }
+
+            // Naming the logger as the source saves the formatter from walking the writer thread's stack to find a
+            // caller
+            record.setSourceClassName(record.getLoggerName());
+
+            if (overflow == Overflow.DROP)
+            {
+                if (buffer.offer(record))
+                {
+                    accepted.incrementAndGet();
+                }
+                else
+                {
+                    dropped.incrementAndGet();
+                }
+                return;
+            }
+
+            try
+            {
+                buffer.put(record);
+                accepted.incrementAndGet();
+            }
+            catch (InterruptedException e)
+            {
+                dropped.incrementAndGet();
+                Thread.currentThread().interrupt();
+            }
+        }
+        finally
+        {
+            publishing.decrementAndGet();
+        }
+    }
+
+    /**
+     * Waits until every record queued so far has been written to the file.
+     */
+    @Override
+    public void flush()
+    {
+        long target = accepted.get();
+
+        synchronized (this)
+        {
+            while (written < target && worker.isAlive())
+            {
+                try
+                {
+                    wait();
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops taking records, writes out every record already queued or on its way into the queue, stops the writer
+     * thread and closes the file. Records published once close() has begun are ignored.
+     */
+    @Override
+    public void close()
+    {
+        if (closed)
+        {
+            return;
+        }
+
+        closed = true;
+        worker.interrupt();
+
+        try
+        {
+            worker.join();
+            writer.close();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        catch (IOException e)
+        {
+            reportError("Could not close the log file", e, ErrorManager.CLOSE_FAILURE);
+        }
+    }
+
+    /**
+     * Returns the number of records thrown away because the buffer was full.
+     *
+     * @return The number of dropped records.
+     */
+    public long getDroppedCount()
+    {
+        return dropped.get();
+    }
+
+    private void writeRecords()
+    {
+        List<LogRecord> batch = new ArrayList<>(MAX_BATCH);
+
+        while (!closed)
+        {
+            try
+            {
+                batch.add(buffer.take());
+            }
+            catch (InterruptedException e)
+            {
+                break;
+            }
+
+            buffer.drainTo(batch, MAX_BATCH - 1);
+            writeBatch(batch);
+            batch.clear();
+        }
+
+        // Closed: write out what is left, including records from threads that got in just before the door shut, or
+        // that are still blocked on a full buffer
+        while (!buffer.isEmpty() || publishing.get() > 0)
+        {
+            if (buffer.drainTo(batch, MAX_BATCH) > 0)
+            {
+                writeBatch(batch);
+                batch.clear();
+            }
+            else
+            {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private void writeBatch(List<LogRecord> batch)
+    {
+        try
+        {
+            long droppedNow = dropped.get();
+
+            if (droppedNow != droppedReported)
+            {
+                writer.write("Log buffer full: dropped " + (droppedNow - droppedReported) + " records"
+                             + System.lineSeparator());
+                droppedReported = droppedNow;
+            }
+
+            for (LogRecord record : batch)
+            {
+                writer.write(getFormatter().format(record));
+            }
+
+            writer.flush();
+        }
+        catch (IOException | RuntimeException e)
+        {
+            reportError("Could not write to the log file", e, ErrorManager.WRITE_FAILURE);
+        }
+
+        synchronized (this)
+        {
+            written += batch.size();
+            notifyAll();
+        }
+    }
+}
@@ -0,0 +1,348 @@
+import java.util.List;
+
+/**
+ * The best play for every Blackjack hand against every dealer up card, worked out from the game's own rules rather
+ * than copied from a published chart. The chart is computed when the class loads, in a few milliseconds, and looking up
+ * a play is a single array read.
+ *
+ * Expected values are worked out for an infinite shoe, where every card value has the same chance on every draw, by
+ * memoized recursion over BlackJackHandState states. The rules are BlackJackTable's:
+ * <ul>
+ * <li>The dealer draws below 17 and stays on every 17, soft or hard.</li>
+ * <li>Both Blackjacks are settled before the player acts, so every play assumes the dealer doesn't have one.</li>
+ * <li>A win pays even money and a push returns the bet.</li>
+ * <li>A surrender returns half the bet, and is allowed after hitting too.</li>
+ * <li>A double down adds a second bet that the dealer doesn't match (see BlackJackTable.doubleDown()), so it wins one
+ *     bet but loses two.</li>
+ * </ul>
+ *
+ * Values are in units of the player's opening bet.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public final class BasicStrategy implements BlackJackStrategy
+{
+    /**
+     * The strategy, for simulations and bots.
+     */
+    public static final BasicStrategy INSTANCE = new BasicStrategy();
+
+    private static final int STATES = BlackJackHandState.STATE_COUNT;
+
+    // Up cards are worth 2–11, so each state has 10 entries
+    private static final int UP_CARDS = 10;
+
+    // Dealer final totals 17–21, then bust
+    private static final int DEALER_BUST = 5;
+
+    private static final BlackJackAction[] ACTIONS = BlackJackAction.values();
+
+    private static final byte[] FIRST_ACTION = new byte[STATES * UP_CARDS];
+    private static final byte[] LATER_ACTION = new byte[STATES * UP_CARDS];
+    private static final double[] VALUES = new double[STATES * UP_CARDS * ACTIONS.length];
+
+    private static final String CHART;
+
+    static
+    {
+        double[][] dealerMemo = new double[STATES][];
+
+        for (int up = 2; up <= 11; up++)
+        {
+            double[] dealer = dealerFinal(up, dealerMemo);
+            double[] best = new double[STATES];
+            boolean[] known = new boolean[STATES];
+
+            for (int state = 0; state < STATES; state++)
+            {
+                if (BlackJackHandState.isBust(state) || BlackJackHandState.isBlackJack(state) || state == 0)
+                {
+                    continue;
+                }
+
+                int index = index(state, up);
+                double stay = stayValue(state, dealer);
+                double hit = hitValue(state, dealer, best, known);
+                double doubleDown = doubleDownValue(state, dealer);
+
+                VALUES[index * ACTIONS.length + BlackJackAction.STAY.ordinal()] = stay;
+                VALUES[index * ACTIONS.length + BlackJackAction.HIT.ordinal()] = hit;
+                VALUES[index * ACTIONS.length + BlackJackAction.SURRENDER.ordinal()] = -0.5;
+                VALUES[index * ACTIONS.length + BlackJackAction.DOUBLE_DOWN.ordinal()] = doubleDown;
+
+                FIRST_ACTION[index] = (byte) bestAction(index, true).ordinal();
+                LATER_ACTION[index] = (byte) bestAction(index, false).ordinal();
+            }
+        }
+
+        CHART = buildChart();
+    }
+
+    private BasicStrategy()
+    {
+
+    }
+
+    /**
+     * Returns the best play for a hand.
+     *
+     * @param state         The player's hand, as a BlackJackHandState state.
+     * @param upCardValue   The Blackjack value of the dealer's up card, from 2 to 11.
+     * @param canDoubleDown Whether doubling down is allowed.
+     * @return The best action. A Blackjack, bust or empty hand has nothing to decide and gets STAY.
+     */
+    public static BlackJackAction action(int state, int upCardValue, boolean canDoubleDown)
+    {
+        byte[] actions = canDoubleDown ? FIRST_ACTION : LATER_ACTION;
+
+        return ACTIONS[actions[index(state, upCardValue)]];
+    }
+
+    /**
+     * Returns the expected value of taking an action with a hand and playing on perfectly afterwards.
+     *
+     * @param state       The player's hand, as a BlackJackHandState state.
+     * @param upCardValue The Blackjack value of the dealer's up card, from 2 to 11.
+     * @param action      The action.
+     * @return The expected result in opening bets, e.g. -0.5 for a surrender.
+     */
+    public static double expectedValue(int state, int upCardValue, BlackJackAction action)
+    {
+        return VALUES[index(state, upCardValue) * ACTIONS.length + action.ordinal()];
+    }
+
+    /**
+     * Returns the state of a hand of Blackjack-valued cards.
+     *
+     * @param hand The cards.
+     * @return The hand's BlackJackHandState state.
+     */
+    public static int stateOf(List<Card> hand)
+    {
+        int state = BlackJackHandState.EMPTY;
+
+        for (int i = 0; i < hand.size(); i++)
+        {
+            state = BlackJackHandState.next(state, hand.get(i).getValue());
+        }
+
+        return state;
+    }
+
+    /**
+     * Returns the chart as text: a row for each hard and soft total and a column for each dealer up card, with S for
+     * stay, H for hit, D for double down and R for surrender.
+     *
+     * @return The chart.
+     */
+    public static String chart()
+    {
+        return CHART;
+    }
+
+    @Override
+    public BlackJackAction decide(BlackJackPlayer player, Card dealerUpCard, boolean canDoubleDown)
+    {
+        return action(stateOf(player.getHand()), dealerUpCard.getValue(), canDoubleDown);
+    }
+
+    public static void main(String[] args)
+    {
+        System.out.print(chart());
+    }
+
+    private static int index(int state, int upCardValue)
+    {
+        return state * UP_CARDS + upCardValue - 2;
+    }
+
+    private static double chance(int value)
+    {
+        return (value == 10) ? 4.0 / 13 : 1.0 / 13;
+    }
+
+    /**
+     * The chances of the dealer finishing on 17–21 or busting with the given up card, given they don't have a
+     * Blackjack.
+     */
+    private static double[] dealerFinal(int up, double[][] memo)
+    {
+        double[] result = new double[DEALER_BUST + 1];
+        int first = BlackJackHandState.next(BlackJackHandState.EMPTY, up);
+        double total = 0;
+
+        for (int hole = 2; hole <= 11; hole++)
+        {
+            int state = BlackJackHandState.next(first, hole);
+
+            if (!BlackJackHandState.isBlackJack(state))
+            {
+                double[] from = dealerFrom(state, memo);
+
+                for (int i = 0; i < result.length; i++)
+                {
+                    result[i] += chance(hole) * from[i];
+                }
+                total += chance(hole);
+            }
+        }
+
+        for (int i = 0; i < result.length; i++)
+        {
+            result[i] /= total;
+        }
+
+        return result;
+    }
+
+    private static double[] dealerFrom(int state, double[][] memo)
+    {
+        if (memo[state] != null)
+        {
+            return memo[state];
+        }
+
+        double[] result = new double[DEALER_BUST + 1];
+
+        if (BlackJackHandState.isBust(state))
+        {
+            result[DEALER_BUST] = 1;
+        }
+        else if (BlackJackHandState.total(state) >= 17)
+        {
+            result[BlackJackHandState.total(state) - 17] = 1;
+        }
+        else
+        {
+            for (int value = 2; value <= 11; value++)
+            {
+                double[] from = dealerFrom(BlackJackHandState.next(state, value), memo);
+
+                for (int i = 0; i < result.length; i++)
+                {
+                    result[i] += chance(value) * from[i];
+                }
+            }
+        }
+
+        memo[state] = result;
+        return result;
+    }
+
+    private static double stayValue(int state, double[] dealer)
+    {
+        return winChance(state, dealer) - lossChance(state, dealer);
+    }
+
+    private static double doubleDownValue(int state, double[] dealer)
+    {
+        double value = 0;
+
+        for (int card = 2; card <= 11; card++)
+        {
+            int next = BlackJackHandState.next(state, card);
+
+            // The player's stake is two bets, but the pot only holds three, so a win nets one bet and a loss costs two
+            value += chance(card) * (BlackJackHandState.isBust(next)
+                                     ? -2
+                                     : winChance(next, dealer) - 2 * lossChance(next, dealer));
+        }
+
+        return value;
+    }
+
+    private static double hitValue(int state, double[] dealer, double[] best, boolean[] known)
+    {
+        double value = 0;
+
+        for (int card = 2; card <= 11; card++)
+        {
+            int next = BlackJackHandState.next(state, card);
+
+            value += chance(card) * (BlackJackHandState.isBust(next) ? -1 : bestValue(next, dealer, best, known));
+        }
+
+        return value;
+    }
+
+    private static double bestValue(int state, double[] dealer, double[] best, boolean[] known)
+    {
+        if (!known[state])
+        {
+            best[state] = Math.max(-0.5, Math.max(stayValue(state, dealer), hitValue(state, dealer, best, known)));
+            known[state] = true;
+        }
+
+        return best[state];
+    }
+
+    private static double winChance(int state, double[] dealer)
+    {
+        double chance = dealer[DEALER_BUST];
+
+        for (int total = 17; total < BlackJackHandState.total(state); total++)
+        {
+            chance += dealer[total - 17];
+        }
+
+        return chance;
+    }
+
+    private static double lossChance(int state, double[] dealer)
+    {
+        double chance = 0;
+
+        for (int total = Math.max(17, BlackJackHandState.total(state) + 1); total <= 21; total++)
+        {
+            chance += dealer[total - 17];
+        }
+
+        return chance;
+    }
+
+    private static BlackJackAction bestAction(int index, boolean canDoubleDown)
+    {
+        BlackJackAction best = BlackJackAction.STAY;
+
+        for (BlackJackAction action : new BlackJackAction[] { BlackJackAction.HIT, BlackJackAction.DOUBLE_DOWN,
+                                                              BlackJackAction.SURRENDER })
+        {
+            if ((canDoubleDown || action != BlackJackAction.DOUBLE_DOWN)
+                && VALUES[index * ACTIONS.length + action.ordinal()] > VALUES[index * ACTIONS.length + best.ordinal()])
+            {
+                best = action;
+            }
+        }
+
+        return best;
+    }
+
+    private static String buildChart()
+    {
+        StringBuilder chart = new StringBuilder("          2  3  4  5  6  7  8  9 10  A\n");
+
+        for (int total = 4; total <= 21; total++)
+        {
+            appendRow(chart, "Hard " + total, BlackJackHandState.hard(total));
+        }
+        for (int total = 12; total <= 21; total++)
+        {
+            appendRow(chart, "Soft " + total, BlackJackHandState.soft(total));
+        }
+
+        return chart.toString();
+    }
+
+    private static void appendRow(StringBuilder chart, String label, int state)
+    {
+        chart.append(String.format("%-8s", label));
+
+        for (int up = 2; up <= 11; up++)
+        {
+            chart.append("  ").append("SHRD".charAt(action(state, up, true).ordinal()));
+        }
+
+        chart.append('\n');
+    }
+}
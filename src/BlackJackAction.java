@@ -0,0 +1,91 @@
+/**
+ * The choices a Blackjack player has on their turn, matching the commands the console accepts.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public enum BlackJackAction
+{
+    STAY("stay"),
+    HIT("hit"),
+    SURRENDER("surrender"),
+    DOUBLE_DOWN("double down");
+
+    private static final BlackJackAction[] ACTIONS = values();
+
+    private final String command;
+
+    BlackJackAction(String command)
+    {
+        this.command = command;
+    }
+
+    /**
+     * Returns the text a player types to choose this action, e.g. "double down".
+     *
+     * @return The console command for this action.
+     */
+    public String getCommand()
+    {
+        return command;
+    }
+
+    /**
+     * Finds the action for a console command, ignoring case and surrounding spaces.
+     *
+     * @param command The text the player typed.
+     * @return The matching action, or null if the text is not a valid command.
+     */
+    public static BlackJackAction fromCommand(CharSequence command)
+    {
+        for (BlackJackAction action : ACTIONS)
+        {
+            if (matches(command, action.command))
+            {
+                return action;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Checks if the text a player typed is the given word, ignoring case and surrounding spaces, without copying it.
+     *
+     * @param text The text the player typed.
+     * @param word The word to look for, e.g. "hint".
+     * @return true if the text is the word, false otherwise.
+     */
+    static boolean matches(CharSequence text, String word)
+    {
+        int start = 0;
+        int end = text.length();
+
+        while (start < end && text.charAt(start) <= ' ')
+        {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) <= ' ')
+        {
+            end--;
+        }
+
+        if (end - start != word.length())
+        {
+            return false;
+        }
+
+        for (int i = 0; i < word.length(); i++)
+        {
+            char c = text.charAt(start + i);
+            char w = word.charAt(i);
+
+            if (c != w && Character.toLowerCase(c) != Character.toLowerCase(w))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -1,8 +1,12 @@
+import java.util.random.RandomGenerator;
+
 /**
  * Represents the dealer in a game of Blackjack. The dealer extends the functionality of a Blackjack player by managing
- * the game deck, dealing cards, and resetting the deck when needed.
+ * the game shoe, dealing cards, and reshuffling the shoe when needed.
  *
- * This class uses a BlackJackDeck to draw cards from a full, shuffled 52-card deck.
+ * This class uses a Shoe to draw cards from one or more shuffled 52-card Blackjack decks. The shoe is only reshuffled
+ * once its cut card has come out, as at a casino table. The dealer keeps a CardCounter for the shoe, which counts the
+ * dealer's own cards as they are seen and is started over whenever the shoe is shuffled.
  * It follows standard Blackjack rules for card dealing.
  *
  * @author Tyler Lang
@@ -10,44 +14,102 @@
  */
 public class BlackJackDealer extends BlackJackPlayer
 {
-    private BlackJackDeck deck;
+    private final Shoe shoe;
+    private final CardCounter counter;
 
     /**
-     * Constructs a Blackjack dealer with a given stash amount. Initializes the dealer's name and a new shuffled deck.
+     * Constructs a Blackjack dealer with a given stash amount. Initializes the dealer's name and a new shuffled
+     * single-deck shoe.
      *
      * @param stash The starting amount of money the dealer has.
      */
     public BlackJackDealer(int stash)
     {
-        super("Dealer", stash);
-        deck = new BlackJackDeck();
+        this(stash, new Shoe(1));
+    }
+
+    /**
+     * Constructs a Blackjack dealer with a given stash amount who deals from a single-deck shoe shuffled with the
+     * given generator.
+     *
+     * @param stash  The starting amount of money the dealer has.
+     * @param random The random number generator used for shuffling.
+     */
+    public BlackJackDealer(int stash, RandomGenerator random)
+    {
+        this(stash, new Shoe(1, Shoe.DEFAULT_PENETRATION, random));
+    }
+
+    /**
+     * Constructs a Blackjack dealer with a given stash amount who deals from the given shoe.
+     *
+     * @param stash The starting amount of money the dealer has.
+     * @param shoe  The shoe to deal from.
+     */
+    public BlackJackDealer(int stash, Shoe shoe)
+    {
+        this(stash, shoe, new CardCounter(shoe));
+    }
+
+    private BlackJackDealer(int stash, Shoe shoe, CardCounter counter)
+    {
+        super("Dealer", stash, counter);
+        this.shoe = shoe;
+        this.counter = counter;
+    }
+
+    /**
+     * Returns the shoe the dealer deals from.
+     *
+     * @return The dealer's shoe.
+     */
+    public Shoe getShoe()
+    {
+        return shoe;
     }
 
     /**
-     * Deals a card from the deck. If the deck is empty, it is automatically reset and shuffled.
+     * Deals a card from the shoe. If the shoe is empty, it is automatically reset and shuffled, and the count starts
+     * over.
      *
-     * @return A card drawn from the top of the deck.
+     * @return A card drawn from the top of the shoe.
      */
     public Card deal()
     {
-        if(deck.deal() != null)
+        Card card = shoe.deal();
+
+        if(card == null)
         {
-            return deck.deal();
+            resetDeck();
+            card = shoe.deal();
         }
-        else
+
+        return card;
+    }
+
+    /**
+     * Shuffles the shoe if the cut card has come out. Called between rounds.
+     *
+     * @return true if the shoe was shuffled, false otherwise.
+     */
+    public boolean shuffleIfCutCardReached()
+    {
+        if(shoe.isCutCardReached())
         {
             resetDeck();
+            return true;
         }
 
-        return deck.deal();
+        return false;
     }
 
     /**
-     * Resets the deck by creating a new shuffled 52-card Blackjack deck.
+     * Resets the shoe by gathering all of its cards back and shuffling them, and starts the count over.
      */
     public void resetDeck()
     {
-        // Initialize the deck as a new instance of the Deck to reset it to 52 random cards again.
-        this.deck = new BlackJackDeck();
+        // Reshuffle the existing shoe in place rather than building a new one.
+        shoe.shuffle();
+        counter.reset();
     }
-}
\ No newline at end of file
+}
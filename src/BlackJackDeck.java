@@ -1,5 +1,6 @@
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.List;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a full 52-card deck tailored for Blackjack. Extends the generic Deck class and customizes card values and
@@ -16,12 +17,21 @@ public class BlackJackDeck extends Deck
      */
     public BlackJackDeck()
     {
-        super();
-        buildDeck();
+        this(RandomSource.next());
     }
 
     /**
-     * Creates a full deck of 52 cards by looping through each suit and rank, assigning Blackjack-specific values:
+     * Constructs a Blackjack deck by building a full 52-card set and shuffling it with the given generator.
+     *
+     * @param random The random number generator used for shuffling.
+     */
+    public BlackJackDeck(RandomGenerator random)
+    {
+        super(random, cards());
+    }
+
+    /**
+     * Creates a full deck of 52 cards by looping through each suit and rank, using the shared Blackjack-valued cards:
      * - 2 through 10 are worth their face value.
      * - Jack, Queen, and King are worth 10.
      * - Ace is worth 11.
@@ -30,37 +40,22 @@ public class BlackJackDeck extends Deck
     @Override
     public void buildDeck()
     {
-        String cardName = "";
-        int cardValue = 0;
-        ArrayList<Card> cards = new ArrayList<Card>();
+        super.setCards(cards());
+        super.shuffle();
+    }
+
+    private static List<Card> cards()
+    {
+        ArrayList<Card> cards = new ArrayList<Card>(52);
 
         for (Suit suit : Suit.values())
         {
             for (int i = 2; i <= 14; i++)
             {
-                if (i <= 10)
-                {
-                    cardName = String.valueOf(i);
-                    cardValue = i;
-                }
-                else
-                {
-                    switch (i)
-                    {
-                        case 11 -> cardName = "Jack";
-                        case 12 -> cardName = "Queen";
-                        case 13 -> cardName = "King";
-                        case 14 -> cardName = "Ace";
-                    }
-
-                    cardValue = (i == 14) ? 11 : 10;
-                }
-
-                cards.add(new Card(suit, cardValue, false, cardName));
+                cards.add(Card.ofBlackJack(suit, i));
             }
         }
 
-        Collections.shuffle(cards);
-        super.setCards(cards);
+        return cards;
     }
 }
@@ -0,0 +1,323 @@
+import java.util.Arrays;
+
+/**
+ * Represents a Blackjack hand as a small integer state instead of a list of cards, for simulations that play far more
+ * hands than the console game. A state is one of: the empty hand, a single card, a hard total (4–21), a soft total
+ * (12–21), a Blackjack, or a bust. Adding a card is a single lookup in a precomputed state × card value table.
+ *
+ * The table is built at class load by dealing every card value onto a BlackJackPlayer holding a representative hand
+ * for each state, so the fast path always follows the same rules as BlackJackPlayer.scoreHand() and hasBlackJack().
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public final class BlackJackHandState
+{
+    /**
+     * The state of a hand with no cards.
+     */
+    public static final int EMPTY = 0;
+
+    private static final int FIRST_CARD = 1;                // one card worth 2–11: states 1–10
+    private static final int HARD = FIRST_CARD + 10 - 4;    // hard 4–21: states 11–28
+    private static final int SOFT = HARD + 22 - 12;         // soft 12–21: states 29–38
+
+    /**
+     * The state of a natural Blackjack: an Ace and a ten-valued card as the first two cards.
+     */
+    public static final int BLACKJACK = SOFT + 22;
+
+    /**
+     * The state of a hand worth more than 21.
+     */
+    public static final int BUST = BLACKJACK + 1;
+
+    /**
+     * The number of distinct states.
+     */
+    public static final int STATE_COUNT = BUST + 1;
+
+    // Card values run from 2 to 11, so a transition row has 10 entries
+    private static final int VALUES = 10;
+
+    private static final byte[] TRANSITIONS = new byte[STATE_COUNT * VALUES];
+    private static final byte[] TOTALS = new byte[STATE_COUNT];
+    private static final boolean[] SOFT_STATES = new boolean[STATE_COUNT];
+
+    static
+    {
+        Card[][] hands = new Card[STATE_COUNT][];
+        int[] queue = new int[STATE_COUNT];
+        int head = 0;
+        int tail = 0;
+
+        hands[EMPTY] = new Card[0];
+        queue[tail++] = EMPTY;
+
+        // Walk outwards from the empty hand, recording a representative hand for each state the first time it's seen
+        while (head < tail)
+        {
+            int state = queue[head++];
+
+            for (int value = 2; value <= 11; value++)
+            {
+                Card[] hand = Arrays.copyOf(hands[state], hands[state].length + 1);
+                hand[hand.length - 1] = cardWorth(value);
+
+                int next = (state == BUST) ? BUST : classify(hand);
+                TRANSITIONS[state * VALUES + value - 2] = (byte) next;
+
+                if (hands[next] == null)
+                {
+                    hands[next] = hand;
+                    queue[tail++] = next;
+                }
+            }
+        }
+
+        for (int state = 0; state < STATE_COUNT; state++)
+        {
+            if (hands[state] == null)
+            {
+                throw new IllegalStateException("Blackjack hand state " + state + " is unreachable");
+            }
+        }
+    }
+
+    private BlackJackHandState()
+    {
+
+    }
+
+    /**
+     * Returns the state reached by adding a card of the given Blackjack value to a hand.
+     *
+     * @param state The current state.
+     * @param value The Blackjack value of the card, from 2 to 11.
+     * @return The new state.
+     */
+    public static int next(int state, int value)
+    {
+        return TRANSITIONS[state * VALUES + value - 2];
+    }
+
+    /**
+     * Returns the state reached by adding an encoded card (see CardCodec) to a hand.
+     *
+     * @param state The current state.
+     * @param card  The encoded card.
+     * @return The new state.
+     */
+    public static int next(int state, byte card)
+    {
+        return TRANSITIONS[state * VALUES + CardCodec.blackJackValue(card) - 2];
+    }
+
+    /**
+     * Returns the state of a hand of two or more cards with the given hard total, i.e. no Ace counted as 11.
+     *
+     * @param total The total, from 4 to 21.
+     * @return The state.
+     * @throws IllegalArgumentException if the total is outside 4–21.
+     */
+    public static int hard(int total)
+    {
+        if (total < 4 || total > 21)
+        {
+            throw new IllegalArgumentException("A hard total must be between 4 and 21");
+        }
+
+        return HARD + total;
+    }
+
+    /**
+     * Returns the state of a hand of two or more cards with the given soft total, i.e. an Ace counted as 11. A soft 21
+     * is the state of three or more cards; two cards worth 21 are a Blackjack.
+     *
+     * @param total The total, from 12 to 21.
+     * @return The state.
+     * @throws IllegalArgumentException if the total is outside 12–21.
+     */
+    public static int soft(int total)
+    {
+        if (total < 12 || total > 21)
+        {
+            throw new IllegalArgumentException("A soft total must be between 12 and 21");
+        }
+
+        return SOFT + total;
+    }
+
+    /**
+     * Returns the score of a hand in the given state, as BlackJackPlayer.scoreHand() would report it. A bust hand
+     * reports 22.
+     *
+     * @param state The state.
+     * @return The score of the hand.
+     */
+    public static int total(int state)
+    {
+        return TOTALS[state];
+    }
+
+    /**
+     * Checks if the state is a soft total, i.e. an Ace is counted as 11.
+     *
+     * @param state The state.
+     * @return true if the hand is soft, false otherwise.
+     */
+    public static boolean isSoft(int state)
+    {
+        return SOFT_STATES[state];
+    }
+
+    /**
+     * Checks if the state is a bust.
+     *
+     * @param state The state.
+     * @return true if the hand is worth more than 21, false otherwise.
+     */
+    public static boolean isBust(int state)
+    {
+        return state == BUST;
+    }
+
+    /**
+     * Checks if the state is a natural Blackjack.
+     *
+     * @param state The state.
+     * @return true if the hand is a Blackjack, false otherwise.
+     */
+    public static boolean isBlackJack(int state)
+    {
+        return state == BLACKJACK;
+    }
+
+    /**
+     * Plays one round with table lookups only: two cards each to the player and the dealer, then the player hits until
+     * reaching standOn and the dealer hits below 17, as BlackJackTable.play() does. Cards come from the given deck,
+     * which is reshuffled when it runs out, like BlackJackDealer.deal().
+     *
+     * @param deck    The deck to deal from.
+     * @param standOn The total at which the player stops hitting, from 2 to 22. 22 means the player hits until bust.
+     * @return 1 if the player wins, 0 on a push, -1 if the dealer wins.
+     * @throws IllegalArgumentException if standOn is outside 2–22.
+     */
+    public static int playRound(ByteDeck deck, int standOn)
+    {
+        // A bust counts as 22, so the player would never reach a higher total and would draw forever
+        if (standOn < 2 || standOn > 22)
+        {
+            throw new IllegalArgumentException("The player must stand on a total between 2 and 22");
+        }
+
+        int player = next(next(EMPTY, draw(deck)), draw(deck));
+        int dealer = next(next(EMPTY, draw(deck)), draw(deck));
+
+        if (player != BLACKJACK && dealer != BLACKJACK)
+        {
+            while (TOTALS[player] < standOn)
+            {
+                player = next(player, draw(deck));
+            }
+
+            if (player != BUST)
+            {
+                while (TOTALS[dealer] < 17)
+                {
+                    dealer = next(dealer, draw(deck));
+                }
+            }
+        }
+
+        return settle(player, dealer);
+    }
+
+    /**
+     * Decides the outcome of a round the way BlackJackTable.scoreGame() does: a player Blackjack wins, then a dealer
+     * Blackjack wins, then a player bust loses and a dealer bust wins, and otherwise the higher total wins with equal
+     * totals pushing. A player and dealer can never both bust, because the dealer doesn't draw after a player bust.
+     *
+     * @param player The player's final state.
+     * @param dealer The dealer's final state.
+     * @return 1 if the player wins, 0 on a push, -1 if the dealer wins.
+     */
+    public static int settle(int player, int dealer)
+    {
+        if (player == BLACKJACK)
+        {
+            return 1;
+        }
+        if (dealer == BLACKJACK)
+        {
+            return -1;
+        }
+        if (player == BUST)
+        {
+            return -1;
+        }
+        if (dealer == BUST)
+        {
+            return 1;
+        }
+
+        return Integer.signum(TOTALS[player] - TOTALS[dealer]);
+    }
+
+    private static byte draw(ByteDeck deck)
+    {
+        byte card = deck.deal();
+
+        if (card == CardCodec.NO_CARD)
+        {
+            deck.shuffle();
+            card = deck.deal();
+        }
+
+        return card;
+    }
+
+    private static Card cardWorth(int value)
+    {
+        return Card.ofBlackJack(Suit.Clubs, value == 11 ? 14 : value);
+    }
+
+    private static int classify(Card[] hand)
+    {
+        BlackJackPlayer player = new BlackJackPlayer();
+        int state;
+
+        for (Card card : hand)
+        {
+            player.receiveCard(card, true);
+        }
+
+        int score = player.scoreHand();
+
+        if (player.hasBlackJack())
+        {
+            state = BLACKJACK;
+        }
+        else if (score > 21)
+        {
+            state = BUST;
+        }
+        else if (hand.length == 1)
+        {
+            state = FIRST_CARD + score - 2;
+        }
+        else if (player.isSoft())
+        {
+            state = SOFT + score;
+        }
+        else
+        {
+            state = HARD + score;
+        }
+
+        TOTALS[state] = (byte) Math.min(score, 22);
+        SOFT_STATES[state] = player.isSoft() && state != BUST;
+
+        return state;
+    }
+}
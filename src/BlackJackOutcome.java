@@ -0,0 +1,98 @@
+/**
+ * The ways a round of Blackjack can end, and how the pot is split for each. This is the single place the table's
+ * scoring order and payouts are defined, so BlackJackTable and the headless simulation always settle rounds alike.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public enum BlackJackOutcome
+{
+    PLAYER_BLACKJACK,
+    DEALER_BLACKJACK,
+    PUSH,
+    PLAYER_BUST,
+    DEALER_BUST,
+    PLAYER_WINS,
+    DEALER_WINS,
+    SURRENDER;
+
+    /**
+     * Decides how a played-out round ends. A player Blackjack wins first, then a dealer Blackjack, then equal scores
+     * push, then a player bust loses, then a dealer bust wins, and otherwise the higher score wins.
+     *
+     * @param player The player.
+     * @param dealer The dealer.
+     * @return The outcome of the round. Never SURRENDER, which is the player's choice rather than a result.
+     */
+    public static BlackJackOutcome of(BlackJackPlayer player, BlackJackPlayer dealer)
+    {
+        int playerScore = player.scoreHand();
+        int dealerScore = dealer.scoreHand();
+
+        if(player.hasBlackJack())
+        {
+            return PLAYER_BLACKJACK;
+        }
+        else if(dealer.hasBlackJack())
+        {
+            return DEALER_BLACKJACK;
+        }
+        else if(playerScore == dealerScore)
+        {
+            return PUSH;
+        }
+        else if(playerScore > 21)
+        {
+            return PLAYER_BUST;
+        }
+        else if(dealerScore > 21)
+        {
+            return DEALER_BUST;
+        }
+        else if(playerScore > dealerScore)
+        {
+            return PLAYER_WINS;
+        }
+
+        return DEALER_WINS;
+    }
+
+    /**
+     * Returns how much of the pot goes back to the player; the dealer receives the rest. The winner takes the whole
+     * pot, a push returns each side's own bet, and a surrender refunds half the player's bet.
+     *
+     * @param pot The total pot.
+     * @param bet The player's bet, including any double down.
+     * @return The player's share of the pot.
+     */
+    public int playerShare(int pot, int bet)
+    {
+        return switch (this)
+        {
+            case PLAYER_BLACKJACK, DEALER_BUST, PLAYER_WINS -> pot;
+            case PUSH -> bet;
+            case SURRENDER -> bet / 2;
+            case DEALER_BLACKJACK, PLAYER_BUST, DEALER_WINS -> 0;
+        };
+    }
+
+    /**
+     * Checks if the player won the round.
+     *
+     * @return true if the player won, false otherwise.
+     */
+    public boolean isPlayerWin()
+    {
+        return this == PLAYER_BLACKJACK || this == DEALER_BUST || this == PLAYER_WINS;
+    }
+
+    /**
+     * Checks if the player lost the round, counting a surrender as a loss.
+     *
+     * @return true if the player lost, false otherwise.
+     */
+    public boolean isPlayerLoss()
+    {
+        return this != PUSH && !isPlayerWin();
+    }
+}
@@ -1,15 +1,27 @@
-import java.util.ArrayList;
-
 public class BlackJackPlayer extends Player
 {
     /**
      * Represents a player in a game of Blackjack. Extends the base Player class and implements Blackjack-specific
      * scoring rules, including logic for Aces and detecting a natural Blackjack.
      *
+     * The hand's totals are kept up to date as cards are received and revealed, so scoreHand() and hasBlackJack()
+     * only read a few fields. Cards must therefore be added through receiveCard() rather than through getHand().
+     *
      * @author Tyler Lang
      * @version 2025.04.03
      */
 
+    // Totals of the face-up cards, counting every Ace as 1
+    private int hardTotal;
+    private int aceCount;
+
+    // Totals of the face-down cards, added to the above when they are revealed
+    private int hiddenHardTotal;
+    private int hiddenAceCount;
+
+    private int cardCount;
+    private boolean blackJack;
+
     /**
      * Constructs a Blackjack player with default name and stash values.
      */
@@ -30,60 +42,118 @@ public class BlackJackPlayer extends Player
     }
 
     /**
-     * Calculates the score of the player's hand according to Blackjack rules.
-     * Aces are counted as 11 or 1 depending on whether the total exceeds 21.
-     * If the hand consists of exactly two cards that sum to 21, it's a Blackjack.
+     * Constructs a Blackjack player with a specific name and stash amount whose cards are counted by the given
+     * counter as they are seen.
      *
-     * Only visible cards are scored. If the score exceeds 21, Aces are downgraded
-     * from 11 to 1 to avoid busting, if possible.
+     * @param name    The name of the player.
+     * @param stash   The starting money the player has.
+     * @param counter The counter, or null if the cards aren't counted.
+     */
+    protected BlackJackPlayer(String name, int stash, CardCounter counter)
+    {
+        super(name, stash, counter);
+    }
+
+    /**
+     * Adds a card to the player's hand and sets its visibility, updating the hand's totals.
      *
-     * @return The total score of the hand.
+     * @param card The card to be added.
+     * @param visibility If true, the card is shown; otherwise, it is hidden.
      */
     @Override
-    public int scoreHand()
+    public void receiveCard(Card card, boolean visibility)
     {
-        int score = 0;
-        int aceCount = 0;
-        ArrayList<Card> hand = super.getHand();
+        super.receiveCard(card, visibility);
+
+        // An Ace counts as 1 here and as 11 in scoreHand() when there is room; any other card keeps its value, even a
+        // Jack that was given a value of 11
+        boolean isAce = card.getRank() == 14;
+        int hardValue = isAce ? 1 : card.getValue();
 
-        for (Card card : hand)
+        if (visibility)
         {
-            if (card.isVisible())
-            {
-                score += card.getValue();
-            }
-            if(card.getName().toLowerCase().contains("ace"))
-            {
-                aceCount++;
-            }
+            hardTotal += hardValue;
+            aceCount += isAce ? 1 : 0;
         }
-
-        while(score > 21 && aceCount > 0)
+        else
         {
-            score -= 10;
+            hiddenHardTotal += hardValue;
+            hiddenAceCount += isAce ? 1 : 0;
         }
 
-        return score;
+        cardCount++;
+        blackJack = cardCount == 2 && hardTotal + hiddenHardTotal == 11 && aceCount + hiddenAceCount > 0;
     }
 
-    public boolean hasBlackJack()
+    /**
+     * Makes all cards in the player's hand visible (face-up), adding the hidden cards to the score.
+     */
+    @Override
+    public void showAllCards()
+    {
+        super.showAllCards();
+
+        hardTotal += hiddenHardTotal;
+        aceCount += hiddenAceCount;
+        hiddenHardTotal = 0;
+        hiddenAceCount = 0;
+    }
+
+    /**
+     * Removes all cards from the player's hand and resets its totals.
+     */
+    @Override
+    public void clearHand()
     {
-        ArrayList<Card> hand = super.getHand();
-        int score = 0;
+        super.clearHand();
+
+        hardTotal = 0;
+        aceCount = 0;
+        hiddenHardTotal = 0;
+        hiddenAceCount = 0;
+        cardCount = 0;
+        blackJack = false;
+    }
 
-        if(hand.size() == 2)
+    /**
+     * Calculates the score of the player's hand according to Blackjack rules.
+     * Aces are counted as 11 or 1 depending on whether the total exceeds 21.
+     * If the hand consists of exactly two cards that sum to 21, it's a Blackjack.
+     *
+     * Only visible cards are scored. At most one Ace can count as 11 without busting, so the score is the hard total
+     * plus 10 when there is an Ace and room for it.
+     *
+     * @return The total score of the hand.
+     */
+    @Override
+    public int scoreHand()
+    {
+        if (aceCount > 0 && hardTotal <= 11)
         {
-            for(Card card : hand)
-            {
-                score += card.getValue();
-
-                if(card.getName().toLowerCase().contains("ace") && score == 21)
-                {
-                    return true;
-                }
-            }
+            return hardTotal + 10;
         }
 
-        return false;
+        return hardTotal;
+    }
+
+    /**
+     * Checks if the hand is a natural Blackjack: exactly two cards, an Ace and a ten-valued card. Face-down cards
+     * count, so a dealer's Blackjack is known before the hole card is turned over.
+     *
+     * @return true if the hand is a Blackjack, false otherwise.
+     */
+    public boolean hasBlackJack()
+    {
+        return blackJack;
+    }
+
+    /**
+     * Checks if the visible score counts an Ace as 11, i.e. the hand is soft.
+     *
+     * @return true if the hand is soft, false otherwise.
+     */
+    public boolean isSoft()
+    {
+        return aceCount > 0 && hardTotal <= 11;
     }
-}
\ No newline at end of file
+}
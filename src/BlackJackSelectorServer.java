@@ -0,0 +1,402 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+/**
+ * Hosts Blackjack tables over TCP from a single thread, using a java.nio Selector to multiplex every connection. The
+ * protocol is the same as BlackJackServer's: one command per line in, the game as UTF-8 text out.
+ *
+ * Each connection's table is driven through CardGame.step() as complete lines arrive, so no thread ever waits on a
+ * player. Input is read into one shared direct buffer, and each line is decoded into one shared char buffer that
+ * step() parses in place, so no String is made for it. Output goes through one shared PrintStream into one shared
+ * direct buffer, which is written straight to the connection after each step. A connection only keeps buffers of its
+ * own while it holds half a line of input or output its socket couldn't take yet, so an idle connection costs little
+ * more than its table.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class BlackJackSelectorServer implements AutoCloseable
+{
+    private static final int READ_BUFFER_SIZE = 8192;
+    private static final int MAX_LINE_LENGTH = 256;
+
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+    private final OutputBuffer output = new OutputBuffer(READ_BUFFER_SIZE);
+    private final PrintStream out = new PrintStream(output, false, StandardCharsets.UTF_8);
+    private final byte[] line = new byte[MAX_LINE_LENGTH];
+    private final ByteBuffer lineBytes = ByteBuffer.wrap(line);
+    private final CharBuffer lineChars = CharBuffer.allocate(MAX_LINE_LENGTH);
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                                                                 .onMalformedInput(CodingErrorAction.REPLACE)
+                                                                 .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private volatile boolean closed;
+    private Thread loop;
+    private final static Logger log = LogHelper.getLogger(BlackJackSelectorServer.class);
+
+    /**
+     * Constructs a server listening on the given port. Connections are not accepted until serve() or start() is called.
+     *
+     * @param port The port to listen on, or 0 for any free port.
+     * @throws IOException if the port cannot be opened.
+     */
+    public BlackJackSelectorServer(int port) throws IOException
+    {
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(port), 1024);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+    }
+
+    /**
+     * Returns the port the server is listening on.
+     *
+     * @return The local port.
+     */
+    public int getPort()
+    {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Runs the event loop on the calling thread until the server is closed.
+     */
+    public void serve()
+    {
+        log.info(() -> "Listening on port " + getPort());
+
+        try
+        {
+            while (!closed)
+            {
+                selector.select(this::handle);
+            }
+        }
+        catch (IOException e)
+        {
+            log.severe(() -> "Event loop stopped: " + e.getMessage());
+        }
+        finally
+        {
+            closeChannels();
+        }
+    }
+
+    /**
+     * Runs the event loop on a new thread and returns straight away.
+     */
+    public void start()
+    {
+        loop = new Thread(this::serve, "blackjack-selector-" + getPort());
+        loop.start();
+    }
+
+    /**
+     * Stops the event loop and closes every connection.
+     */
+    @Override
+    public void close()
+    {
+        closed = true;
+        selector.wakeup();
+
+        if (loop != null)
+        {
+            try
+            {
+                loop.join();
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (selector.isOpen())
+        {
+            closeChannels();
+        }
+    }
+
+    private void handle(SelectionKey key)
+    {
+        try
+        {
+            if (key.isAcceptable())
+            {
+                accept();
+                return;
+            }
+            if (key.isReadable())
+            {
+                read(key);
+            }
+            if (key.isValid() && key.isWritable())
+            {
+                write(key);
+            }
+        }
+        catch (IOException e)
+        {
+            log.info(() -> "Connection lost: " + e.getMessage());
+            closeConnection(key);
+        }
+        catch (RuntimeException e)
+        {
+            // One broken table must not take down the loop that serves every other table
+            log.severe(() -> "Closing a connection after an error: " + e);
+            out.flush();
+            output.buffer.clear();
+            closeConnection(key);
+        }
+    }
+
+    private void accept() throws IOException
+    {
+        SocketChannel channel = serverChannel.accept();
+
+        if (channel == null)
+        {
+            return;
+        }
+
+        channel.configureBlocking(false);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+
+        Connection connection = new Connection(new BlackJackTable(out));
+        SelectionKey key = channel.register(selector, SelectionKey.OP_READ, connection);
+
+        connection.table.start();
+        send(key, connection);
+    }
+
+    private void read(SelectionKey key) throws IOException
+    {
+        Connection connection = (Connection) key.attachment();
+        SocketChannel channel = (SocketChannel) key.channel();
+
+        readBuffer.clear();
+
+        if (channel.read(readBuffer) < 0)
+        {
+            closeConnection(key);
+            return;
+        }
+
+        readBuffer.flip();
+        int length = connection.restoreLine(line);
+
+        while (readBuffer.hasRemaining() && !connection.table.isOver())
+        {
+            byte b = readBuffer.get();
+
+            if (b == '\n')
+            {
+                connection.table.step(decodeLine(length));
+                length = 0;
+            }
+            else if (b != '\r' && length < line.length)
+            {
+                // Anything past the longest valid command is dropped, which leaves an invalid command
+                line[length++] = b;
+            }
+        }
+
+        connection.saveLine(line, length);
+        send(key, connection);
+    }
+
+    /**
+     * Decodes the first length bytes of the line buffer into the shared char buffer.
+     */
+    private CharBuffer decodeLine(int length)
+    {
+        lineBytes.clear().limit(length);
+        lineChars.clear();
+        decoder.reset();
+        decoder.decode(lineBytes, lineChars, true);
+        decoder.flush(lineChars);
+        return lineChars.flip();
+    }
+
+    private void write(SelectionKey key) throws IOException
+    {
+        Connection connection = (Connection) key.attachment();
+
+        ((SocketChannel) key.channel()).write(connection.pending);
+
+        if (!connection.pending.hasRemaining())
+        {
+            connection.pending = null;
+            finishSend(key, connection);
+        }
+    }
+
+    /**
+     * Writes whatever the last step produced. Output the socket can't take yet is kept on the connection, which stops
+     * reading until it has all been written.
+     */
+    private void send(SelectionKey key, Connection connection) throws IOException
+    {
+        out.flush();
+
+        ByteBuffer bytes = output.buffer;
+        bytes.flip();
+
+        try
+        {
+            ((SocketChannel) key.channel()).write(bytes);
+
+            if (bytes.hasRemaining())
+            {
+                connection.pending = ByteBuffer.allocate(bytes.remaining()).put(bytes).flip();
+                key.interestOps(SelectionKey.OP_WRITE);
+                return;
+            }
+        }
+        finally
+        {
+            bytes.clear();
+        }
+
+        finishSend(key, connection);
+    }
+
+    private void finishSend(SelectionKey key, Connection connection)
+    {
+        if (connection.table.isOver())
+        {
+            closeConnection(key);
+        }
+        else
+        {
+            key.interestOps(SelectionKey.OP_READ);
+        }
+    }
+
+    private void closeConnection(SelectionKey key)
+    {
+        key.cancel();
+
+        try
+        {
+            key.channel().close();
+        }
+        catch (IOException e)
+        {
+            log.warning(() -> "Could not close a connection: " + e.getMessage());
+        }
+    }
+
+    private void closeChannels()
+    {
+        try
+        {
+            for (SelectionKey key : selector.keys())
+            {
+                key.channel().close();
+            }
+
+            selector.close();
+        }
+        catch (IOException e)
+        {
+            log.warning(() -> "Could not close the server: " + e.getMessage());
+        }
+    }
+
+    public static void main(String[] args) throws IOException
+    {
+        int port = (args.length > 0) ? Integer.parseInt(args[0]) : BlackJackServer.DEFAULT_PORT;
+
+        try (BlackJackSelectorServer server = new BlackJackSelectorServer(port))
+        {
+            System.out.println("Blackjack server listening on port " + server.getPort());
+            server.serve();
+        }
+    }
+
+    /**
+     * The state kept for one connection between events.
+     */
+    private static final class Connection
+    {
+        private final BlackJackTable table;
+        private byte[] partialLine;
+        private ByteBuffer pending;
+
+        private Connection(BlackJackTable table)
+        {
+            this.table = table;
+        }
+
+        // Copies the start of a line received in an earlier read back into the line buffer, returning its length
+        private int restoreLine(byte[] line)
+        {
+            if (partialLine == null)
+            {
+                return 0;
+            }
+
+            System.arraycopy(partialLine, 0, line, 0, partialLine.length);
+            return partialLine.length;
+        }
+
+        private void saveLine(byte[] line, int length)
+        {
+            partialLine = (length == 0) ? null : Arrays.copyOf(line, length);
+        }
+    }
+
+    /**
+     * An OutputStream that appends to a direct buffer, growing it if a step writes more than it holds.
+     */
+    private static final class OutputBuffer extends OutputStream
+    {
+        private ByteBuffer buffer;
+
+        private OutputBuffer(int capacity)
+        {
+            buffer = ByteBuffer.allocateDirect(capacity);
+        }
+
+        @Override
+        public void write(int b)
+        {
+            ensureRemaining(1);
+            buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length)
+        {
+            ensureRemaining(length);
+            buffer.put(bytes, offset, length);
+        }
+
+        private void ensureRemaining(int length)
+        {
+            if (buffer.remaining() < length)
+            {
+                ByteBuffer larger = ByteBuffer.allocateDirect(Math.max(buffer.capacity() * 2, buffer.position() + length));
+                buffer.flip();
+                buffer = larger.put(buffer);
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+/**
+ * Hosts Blackjack tables over TCP, one table per connection. A client plays exactly as at the console, sending one
+ * command per line (a bet amount, "stay", "hit", "surrender", "double down", "yes" or "no") and reading the game as
+ * plain UTF-8 text. The session ends when the game is over or the client disconnects.
+ *
+ * Every connection is served on its own virtual thread, so a session can simply block while it waits for the player's
+ * next line and thousands of idle sessions cost little more than their tables.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class BlackJackServer implements AutoCloseable
+{
+    public static final int DEFAULT_PORT = 4000;
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService sessions;
+    private final static Logger log = LogHelper.getLogger(BlackJackServer.class);
+
+    /**
+     * Constructs a server listening on the given port. Connections are not accepted until serve() or start() is called.
+     *
+     * @param port The port to listen on, or 0 for any free port.
+     * @throws IOException if the port cannot be opened.
+     */
+    public BlackJackServer(int port) throws IOException
+    {
+        serverSocket = new ServerSocket(port);
+        sessions = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * Returns the port the server is listening on.
+     *
+     * @return The local port.
+     */
+    public int getPort()
+    {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Accepts connections on the calling thread until the server is closed, starting a table for each one.
+     */
+    public void serve()
+    {
+        log.info(() -> "Listening on port " + getPort());
+
+        while (!serverSocket.isClosed())
+        {
+            try
+            {
+                Socket socket = serverSocket.accept();
+                sessions.submit(() -> playSession(socket));
+            }
+            catch (IOException e)
+            {
+                if (!serverSocket.isClosed())
+                {
+                    log.warning(() -> "Could not accept a connection: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Accepts connections in the background and returns straight away.
+     */
+    public void start()
+    {
+        Thread.ofVirtual().name("blackjack-server-" + getPort()).start(this::serve);
+    }
+
+    /**
+     * Stops accepting connections and ends every open session.
+     *
+     * @throws IOException if the listening socket cannot be closed.
+     */
+    @Override
+    public void close() throws IOException
+    {
+        serverSocket.close();
+
+        // Interrupting a virtual thread blocked on a socket closes the socket, which ends the session
+        sessions.shutdownNow();
+    }
+
+    private void playSession(Socket socket)
+    {
+        String client = String.valueOf(socket.getRemoteSocketAddress());
+        log.info(() -> "Session started for " + client);
+
+        try (socket)
+        {
+            socket.setTcpNoDelay(true);
+
+            GameIO io = new GameIO(socket.getInputStream(), socket.getOutputStream());
+            GameResult result = new BlackJackTable(io).play();
+
+            if (result.getEnding() == GameResult.Ending.INPUT_ENDED)
+            {
+                log.info(() -> "Connection lost for " + client);
+            }
+            log.info(() -> "Session ended for " + client + ": " + result);
+        }
+        catch (IOException e)
+        {
+            // play() reports a lost connection as INPUT_ENDED, so this is the socket failing to be set up or closed
+            log.warning(() -> "Socket error for " + client + ": " + e.getMessage());
+        }
+    }
+
+    public static void main(String[] args) throws IOException
+    {
+        int port = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+
+        try (BlackJackServer server = new BlackJackServer(port))
+        {
+            System.out.println("Blackjack server listening on port " + server.getPort());
+            server.serve();
+        }
+    }
+}
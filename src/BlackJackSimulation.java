@@ -0,0 +1,157 @@
+/**
+ * Plays Blackjack rounds headlessly, with a BlackJackStrategy making the player's choices instead of the console.
+ * Rounds follow BlackJackTable.play(): the dealer matches the bet, deals two cards each with the hole card face-down,
+ * settles Blackjacks straight away, lets the player double down on their first action or hit until they stay,
+ * surrender or bust, and then draws below 17. Outcomes and payouts come from BlackJackOutcome, the same rules
+ * BlackJackTable.scoreGame() uses.
+ *
+ * Nothing is printed or logged while rounds are played, and a round allocates nothing once the hands have grown to
+ * their largest size. The player's bankroll is treated as unlimited, so the player can always cover a double down,
+ * and results are tracked as a net amount in SimulationStats rather than in the player's stash.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class BlackJackSimulation
+{
+    private final BlackJackDealer dealer;
+    private final BlackJackPlayer player;
+    private final BlackJackStrategy strategy;
+    private final int bet;
+
+    private boolean doubled;
+    private int playerBet;
+    private int pot;
+
+    /**
+     * Constructs a simulation in which the player bets the same amount every round.
+     *
+     * @param dealer   The dealer, who deals from their own shoe.
+     * @param strategy The strategy that makes the player's choices.
+     * @param bet      The player's opening bet each round.
+     * @throws IllegalArgumentException if the bet is not positive.
+     */
+    public BlackJackSimulation(BlackJackDealer dealer, BlackJackStrategy strategy, int bet)
+    {
+        if (bet <= 0)
+        {
+            throw new IllegalArgumentException("The bet must be greater than 0");
+        }
+
+        this.dealer = dealer;
+        this.player = new BlackJackPlayer();
+        this.strategy = strategy;
+        this.bet = bet;
+    }
+
+    /**
+     * Plays the given number of rounds.
+     *
+     * @param rounds        The number of rounds to play.
+     * @param curveInterval The number of rounds between bankroll samples.
+     * @return The statistics for the rounds played.
+     */
+    public SimulationStats run(long rounds, int curveInterval)
+    {
+        SimulationStats stats = new SimulationStats(rounds, curveInterval);
+
+        for (long i = 0; i < rounds; i++)
+        {
+            playRound(stats);
+        }
+
+        return stats;
+    }
+
+    /**
+     * Plays one round and records its result.
+     *
+     * @param stats The statistics to record the round in.
+     * @return How the round ended.
+     * @throws IllegalStateException if the strategy chooses an action that isn't allowed.
+     */
+    public BlackJackOutcome playRound(SimulationStats stats)
+    {
+        BlackJackOutcome outcome = play();
+
+        stats.record(outcome, bet, outcome.playerShare(pot, playerBet) - playerBet, doubled);
+
+        return outcome;
+    }
+
+    private BlackJackOutcome play()
+    {
+        player.clearHand();
+        dealer.clearHand();
+        dealer.shuffleIfCutCardReached();
+
+        // The dealer matches the bet, or goes all in if they can't
+        playerBet = bet;
+        pot = bet + Math.min(bet, dealer.getStash());
+        doubled = false;
+
+        player.receiveCard(dealer.deal(), true);
+        player.receiveCard(dealer.deal(), true);
+        dealer.receiveCard(dealer.deal(), false);
+        dealer.receiveCard(dealer.deal(), true);
+
+        if (player.hasBlackJack() || dealer.hasBlackJack())
+        {
+            return BlackJackOutcome.of(player, dealer);
+        }
+
+        Card upCard = dealer.getHand().get(1);
+        BlackJackAction action = strategy.decide(player, upCard, true);
+
+        if (action == BlackJackAction.DOUBLE_DOWN)
+        {
+            pot += playerBet;
+            playerBet *= 2;
+            doubled = true;
+
+            player.receiveCard(dealer.deal(), true);
+
+            if (player.scoreHand() > 21)
+            {
+                return BlackJackOutcome.of(player, dealer);
+            }
+
+            action = BlackJackAction.STAY;
+        }
+
+        while (action == BlackJackAction.HIT)
+        {
+            player.receiveCard(dealer.deal(), true);
+
+            if (player.scoreHand() > 21)
+            {
+                return BlackJackOutcome.of(player, dealer);
+            }
+
+            action = strategy.decide(player, upCard, false);
+
+            if (action == BlackJackAction.DOUBLE_DOWN)
+            {
+                throw new IllegalStateException("The player can only double down as their first action");
+            }
+        }
+
+        if (action == BlackJackAction.SURRENDER)
+        {
+            return BlackJackOutcome.SURRENDER;
+        }
+        if (action != BlackJackAction.STAY)
+        {
+            throw new IllegalStateException("The strategy must choose an action");
+        }
+
+        dealer.showAllCards();
+
+        while (dealer.scoreHand() < 17)
+        {
+            dealer.receiveCard(dealer.deal(), true);
+        }
+
+        return BlackJackOutcome.of(player, dealer);
+    }
+}
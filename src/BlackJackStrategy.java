@@ -0,0 +1,33 @@
+/**
+ * Decides a Blackjack player's actions during a headless simulation, in place of the console prompts in
+ * BlackJackTable.play(). Implementations are called on the simulation's hot path, so they should avoid allocating.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public interface BlackJackStrategy
+{
+    /**
+     * Chooses the player's next action.
+     *
+     * @param player        The player, whose hand holds every card dealt to them so far.
+     * @param dealerUpCard  The dealer's face-up card.
+     * @param canDoubleDown Whether doubling down is allowed: only as the first action, and only if the player can
+     *                      cover it.
+     * @return The action to take. DOUBLE_DOWN must only be returned when canDoubleDown is true.
+     */
+    BlackJackAction decide(BlackJackPlayer player, Card dealerUpCard, boolean canDoubleDown);
+
+    /**
+     * Returns a strategy that hits below the given total and stays otherwise, ignoring the dealer's card. With 17 it
+     * plays like the dealer.
+     *
+     * @param total The total at which to stop hitting.
+     * @return The strategy.
+     */
+    static BlackJackStrategy hitBelow(int total)
+    {
+        return (player, dealerUpCard, canDoubleDown) ->
+                player.scoreHand() < total ? BlackJackAction.HIT : BlackJackAction.STAY;
+    }
+}
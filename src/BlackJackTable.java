@@ -1,6 +1,8 @@
-import java.util.InputMismatchException;
-import java.util.Scanner;
-import java.util.Set;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
 import java.util.logging.Logger;
 
 /**
@@ -8,6 +10,18 @@ import java.util.logging.Logger;
  * logic, and the main game loop control. This class manages console input for placing bets and determining if the user
  * wants to play additional rounds. Logging is used to track player actions and errors.
  *
+ * A table reads the player's commands and writes the game through a GameIO, so the same game can be played at the
+ * console, over a network connection (see BlackJackServer) or from a script. No table ends the program: play() returns
+ * a GameResult when the game is over, and reset() sets the table up for a new game, so one process can host any
+ * number of games in a row.
+ *
+ * The game itself is a state machine driven by step(), which takes one line of input, writes the response and returns
+ * without ever waiting for more input. play() simply feeds it lines from the input stream, while a server can step many
+ * tables from one thread as their input arrives (see BlackJackSelectorServer).
+ *
+ * Given a HandHistoryJournal, the table also writes every round to it: the bet, each card dealt, the player's actions,
+ * the outcome and both stashes afterwards.
+ *
  * @author Tyler Lang
  * @version 2025.04.03
  */
@@ -15,27 +29,96 @@ public class BlackJackTable implements CardGame
 {
     private BlackJackDealer dealer;
     private BlackJackPlayer player;
-    private Scanner scanner;
+    private final GameIO io;
+    private final PrintStream out;
+    private final PrintStream err;
+    private Phase phase;
+    private GameResult result;
     private int bet;
     private int dealerBet;
     private int pot;
     private int roundTracker;
     private double playerWins;
     private double playerLosses;
+    private HandHistoryJournal journal;
+    private long tableId;
+    private final HandHistoryRecord history = new HandHistoryRecord();
+    private BlackJackOutcome outcome;
+    private int settledPot;
+    private boolean doubled;
+    private ExpectedValueAdvisor advisor;
+    private final double[] actionValues = new double[BlackJackAction.values().length];
+    private final TableRenderer renderer = new TableRenderer();
     private final static Logger log = LogHelper.getLogger(BlackJackTable.class);
 
     /**
-     * Constructs a new Table with input handling and logging initialized.
+     * Where the game is waiting for the player's input.
+     */
+    private enum Phase
+    {
+        NEW,
+        BETTING,
+        FIRST_ACTION,
+        ACTION,
+        NEXT_ROUND,
+        OVER
+    }
+
+    /**
+     * Constructs a new Table played at the console, with input handling and logging initialized.
      */
     public BlackJackTable()
+    {
+        this(GameIO.console());
+    }
+
+    /**
+     * Constructs a new Table that reads the player's commands from, and writes the game to, the given GameIO. The
+     * output is flushed each time the table waits for the player.
+     *
+     * @param io The player's input and output.
+     */
+    public BlackJackTable(GameIO io)
+    {
+        this(io, io.getOut(), io.getErr());
+    }
+
+    /**
+     * Constructs a new Table that plays over the given streams, e.g. those of a network connection. Error messages are
+     * written to the same stream as the rest of the game.
+     *
+     * @param in  The stream the player's commands are read from, as UTF-8 text.
+     * @param out The stream the game is written to.
+     */
+    public BlackJackTable(InputStream in, PrintStream out)
+    {
+        this(new GameIO(new InputStreamReader(in, StandardCharsets.UTF_8), out));
+    }
+
+    /**
+     * Constructs a new Table with no input stream of its own, to be driven through start() and step() by whoever
+     * receives the player's input. Error messages are written to the same stream as the rest of the game.
+     *
+     * @param out The stream the game is written to.
+     */
+    public BlackJackTable(PrintStream out)
+    {
+        this(null, out, out);
+    }
+
+    private BlackJackTable(GameIO io, PrintStream out, PrintStream err)
     {
         player = new BlackJackPlayer("Player", 500);
         dealer = new BlackJackDealer(2500);
+        player.setCounter(dealer.getCounter());
         dealerBet = 0;
         bet = 0;
         pot = 0;
         roundTracker = 0;
-        scanner = new Scanner(System.in);
+        this.io = io;
+        this.out = out;
+        this.err = err;
+        phase = Phase.NEW;
     }
 
     /**
@@ -79,7 +162,17 @@ public class BlackJackTable implements CardGame
     }
 
     /**
-     * Sets the dealer for the Blackjack game.
+     * Returns how the last round ended, once it has been settled.
+     *
+     * @return the outcome of the last round, or null while a round is still being played
+     */
+    public BlackJackOutcome getLastOutcome()
+    {
+        return outcome;
+    }
+
+    /**
+     * Sets the dealer for the Blackjack game. The player's cards are counted by the new dealer's counter from now on.
      *
      * @param dealer the dealer to set
      * @throws IllegalStateException if dealer is null or does not have 2500 in stash
@@ -89,6 +182,7 @@ public class BlackJackTable implements CardGame
         if (dealer != null && dealer.getStash() == 2500)
         {
             this.dealer = dealer;
+            player.setCounter(dealer.getCounter());
         }
         else if (dealer == null)
         {
@@ -101,7 +195,7 @@ public class BlackJackTable implements CardGame
     }
 
     /**
-     * Sets the player for the Blackjack game.
+     * Sets the player for the Blackjack game. The player's cards are counted by the dealer's counter.
      *
      * @param player the player to set
      * @throws IllegalStateException if player is null or does not have 500 in stash
@@ -111,6 +205,7 @@ public class BlackJackTable implements CardGame
         if (player != null && player.getStash() == 500)
         {
             this.player = player;
+            player.setCounter(dealer.getCounter());
         }
         else if (player == null)
         {
@@ -173,230 +268,387 @@ public class BlackJackTable implements CardGame
     }
 
     /**
-     * Handles the betting process for a round of Blackjack.
+     * Sets the hand-history journal that every round played from now on is written to.
+     *
+     * @param journal the journal to write to, or null to stop writing rounds
+     */
+    public void setJournal(HandHistoryJournal journal)
+    {
+        this.journal = journal;
+        this.tableId = (journal != null) ? journal.nextTableId() : 0;
+    }
+
+    /**
+     * Starts the main game loop for Blackjack.
+     * Welcomes the player, takes bets, and repeatedly prompts the user
+     * to play additional rounds or exit. Uses logging to track game flow and user input errors.
+     * Each line the player enters is handed to step(), so the console game and a table driven one event at a time
+     * follow exactly the same rules. The output is flushed once each time the table waits for a line, rather than on
+     * every println(). If the input runs out or fails before the game is over, e.g. because the player disconnected,
+     * the game ends there.
+     *
+     * @return How the game ended.
+     * @throws IllegalStateException if the table was constructed without an input stream.
      */
-    public void takeBets()
+    @Override
+    public GameResult play()
     {
-        boolean running = true;
-        System.out.println("Place your bets!");
+        if (io == null)
+        {
+            throw new IllegalStateException("This table has no input stream to play from; drive it with step()");
+        }
 
-        while (running)
+        start();
+
+        while (!isOver())
         {
-            try
-            {
-                setBet(scanner.nextInt());
-                scanner.nextLine();
-
-                player.setStash(player.getStash() - bet);
-                System.out.println("You bet $" + bet);
-                log.info("Player bet $" + bet);
-
-                if (dealer.getStash() >= bet)
-                {
-                    System.out.println("The dealer matches your bet");
-                    log.info("Dealer matches player's bet of $" + bet);
-
-                    dealerBet = bet;
-                    pot = bet + dealerBet;
-                    dealer.setStash(dealer.getStash() - bet);
-                }
-                else
-                {
-                    System.out.println("The dealer goes all in!");
-                    log.info("Dealer goes all in with $" + dealerBet);
-
-                    dealerBet = dealer.getStash();
-                    pot = bet + dealerBet;
-                    dealer.setStash(0);
-                }
-
-                System.out.println("The total pot is now $" + pot + "\n");
-                log.info("User made a bet");
-                running = false;
-            }
-            catch (IllegalBetException e)
-            {
-                System.err.println(e.getMessage());
-                log.warning(e.getMessage());
-            }
-            catch (InputMismatchException e)
-            {
-                System.err.println("Please enter a whole number without any characters");
-                log.warning(e.getMessage());
-                scanner.nextLine();
-            }
-            catch (Exception e)
+            String line = nextLine();
+
+            if (line == null)
             {
-                System.err.println("An unexpected error occurred");
-                log.severe(e.getMessage());
-                System.exit(1);
+                log.info("The player's input ended in the middle of the game.");
+                endGame(GameResult.Ending.INPUT_ENDED);
+                break;
             }
+
+            step(line);
         }
+
+        log.info("Table closed.");
+
+        return result;
     }
 
     /**
-     * Starts the main game loop for Blackjack.
-     * Welcomes the player, takes bets, and repeatedly prompts the user
-     * to play additional rounds or exit. Uses logging to track game flow and user input errors.
+     * Sends the output so far to the player and waits for their next line.
+     *
+     * @return The line, or null if the input has ended or can't be read.
+     */
+    private String nextLine()
+    {
+        io.flush();
+
+        try
+        {
+            return io.readLine();
+        }
+        catch (IOException e)
+        {
+            log.warning(() -> "Could not read the player's input: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Welcomes the player and asks for the first bet.
      */
+    @Override
+    public void start()
+    {
+        printMainMenu();
+        promptForBet();
+    }
 
+    /**
+     * Plays one line of the player's input: a bet, an action, or the answer to whether to play another round,
+     * depending on where the game is. All output for the step is written before this returns, and invalid input just
+     * repeats the question. The input is parsed where it lies rather than copied, so a server can pass the same
+     * buffer for every line.
+     *
+     * @param input One line entered by the player.
+     * @throws IllegalStateException if the game hasn't started or is already over.
+     */
     @Override
-    public void play()
+    public void step(CharSequence input)
     {
-        boolean running = true;
-        String userInput = null;
+        switch (phase)
+        {
+            case NEW -> throw new IllegalStateException("The game has not started yet");
+            case BETTING -> placeBet(input);
+            case FIRST_ACTION, ACTION -> takeAction(input);
+            case NEXT_ROUND -> answerNextRound(input);
+            case OVER -> throw new IllegalStateException("The game is over");
+        }
+    }
 
-        printMainMenu();
+    /**
+     * Checks if the game is over, because the player left or someone ran out of money.
+     *
+     * @return true if the game is over, false otherwise.
+     */
+    @Override
+    public boolean isOver()
+    {
+        return phase == Phase.OVER;
+    }
+
+    /**
+     * Returns how the game ended: why, after how many rounds, and with how much money on each side.
+     *
+     * @return The result, or null if the game isn't over.
+     */
+    @Override
+    public GameResult getResult()
+    {
+        return result;
+    }
+
+    /**
+     * Sets the table up for a new game with the same player, dealer and journal: both hands are cleared, the stashes
+     * go back to $500 and $2500, the shoe is shuffled, the record starts over and the journal numbers the table anew.
+     * A game in progress is abandoned, along with any bets on the table.
+     */
+    @Override
+    public void reset()
+    {
+        player.clearHand();
+        dealer.clearHand();
+        player.setStash(500);
+        dealer.setStash(2500);
+        dealer.resetDeck();
+        bet = 0;
+        dealerBet = 0;
+        pot = 0;
+        settledPot = 0;
+        roundTracker = 0;
+        playerWins = 0;
+        playerLosses = 0;
+        outcome = null;
+        doubled = false;
+        result = null;
+        tableId = (journal != null) ? journal.nextTableId() : 0;
+        phase = Phase.NEW;
+        log.info("Table reset for a new game.");
+    }
 
-        do
+    /**
+     * Handles a bet entered by the player. A valid bet is taken from the player's stash, matched by the dealer, and
+     * the round is dealt.
+     */
+    private void placeBet(CharSequence input)
+    {
+        int start = 0;
+        int end = input.length();
+
+        while (start < end && input.charAt(start) <= ' ')
         {
-            boolean roundResolved = false;
-            takeBets();
-            roundStartDeal();
+            start++;
+        }
+        while (end > start && input.charAt(end - 1) <= ' ')
+        {
+            end--;
+        }
 
-            if(player.hasBlackJack() || dealer.hasBlackJack())
-            {
-                scoreGame();
-                startNextRound();
-                continue;
-            }
+        try
+        {
+            setBet(Integer.parseInt(input, start, end, 10));
+        }
+        catch (IllegalBetException e)
+        {
+            err.println(e.getMessage());
+            log.warning(e.getMessage());
+            return;
+        }
+        catch (NumberFormatException e)
+        {
+            err.println("Please enter a whole number without any characters");
+            log.warning(e.getMessage());
+            return;
+        }
 
-            printPlayers();
+        player.setStash(player.getStash() - bet);
+        out.println("You bet $" + bet);
+        log.info(() -> "Player bet $" + bet);
+        history.clear(tableId, roundTracker);
+        doubled = false;
+        outcome = null;
 
-            System.out.println("Please enter one of the following:");
-            System.out.println("* Stay");
-            System.out.println("* Hit");
-            System.out.println("* Surrender");
-            System.out.println("* Double Down");
+        if (dealer.getStash() >= bet)
+        {
+            out.println("The dealer matches your bet");
+            log.info(() -> "Dealer matches player's bet of $" + bet);
 
-            while(true)
-            {
-                Set<String> validInputs = Set.of("stay", "hit", "surrender", "double down");
-                userInput = scanner.nextLine().toLowerCase().trim();
-
-                if(!validInputs.contains(userInput))
-                {
-                    System.err.println("Please enter a valid option");
-                }
-                else
-                {
-                    break;
-                }
-            }
+            dealerBet = bet;
+            pot = bet + dealerBet;
+            dealer.setStash(dealer.getStash() - bet);
+        }
+        else
+        {
+            out.println("The dealer goes all in!");
+            log.info(() -> "Dealer goes all in with $" + dealerBet);
 
+            dealerBet = dealer.getStash();
+            pot = bet + dealerBet;
+            dealer.setStash(0);
+        }
 
-            if(userInput.equals("double down"))
-            {
-                if(doubleDown())
-                {
-                    System.out.println("Player doubles down!\n");
-
-                    player.receiveCard(dealer.deal(), true);
-                    printPlayers();
-
-                    if(player.scoreHand() > 21)
-                    {
-                        roundResolved = true;
-                        scoreGame();
-                        startNextRound();
-                    }
-
-                    userInput = "stay";
-                }
-                else
-                {
-                    System.out.println("Player doesn't have enough money to double down!");
-                    System.out.println("You can still stay, hit or surrender");
-
-                    while(true)
-                    {
-                        Set<String> validInputs = Set.of("stay", "hit", "surrender");
-                        userInput = scanner.nextLine().toLowerCase().trim();
-
-                        if(!validInputs.contains(userInput))
-                        {
-                            System.err.println("Please enter a valid option");
-                        }
-                        else
-                        {
-                            break;
-                        }
-                    }
-                }
-            }
-            if (userInput.equals("hit"))
-            {
-                boolean isHit = true;
-
-                while (isHit)
-                {
-                    player.receiveCard(dealer.deal(), true);
-                    log.info("Player chooses to hit");
-                    printPlayers();
-
-                    if (player.scoreHand() > 21)
-                    {
-                        roundResolved = true;
-                        isHit = false;
-                        scoreGame();
-                        startNextRound();
-                    }
-                    else
-                    {
-                        System.out.println("Hit, stay or surrender?");
-                        userInput = scanner.nextLine().toLowerCase();
-
-                        if(!userInput.contains("hit"))
-                        {
-                            isHit = false;
-                        }
-                    }
-                }
-            }
-            if(userInput.equals("surrender"))
-            {
-                int playerRefund = getBet() / 2;
-                int dealerWinnings = getPot() - playerRefund;
+        out.println("The total pot is now $" + pot + "\n");
+        log.info("User made a bet");
 
-                System.out.println("Player surrenders");
-                System.out.println("Dealer wins $" + dealerWinnings);
-                System.out.println("Player receives a refund of $" + playerRefund + "\n");
+        roundStartDeal();
 
-                dealer.setStash(dealer.getStash() + dealerWinnings);
-                player.setStash(player.getStash() + playerRefund);
-                setPot(0);
+        if (player.hasBlackJack() || dealer.hasBlackJack())
+        {
+            scoreGame();
+            endRound();
+            return;
+        }
 
-                roundResolved = true;
-                playerLosses++;
-                startNextRound();
-            }
-            if(userInput.equals("stay"))
-            {
-                System.out.println("Dealer's turn...\n");
-                dealer.showAllCards();
-
-                while(dealer.scoreHand() < 17)
-                {
-                    Card card = dealer.deal();
-                    dealer.receiveCard(card, true);
-                    log.info("Dealer draws a " + dealer.getHand().getLast().toString());
-                    System.out.println("Dealer draws a " + dealer.getHand().getLast().toString());
-                }
-
-                if(dealer.scoreHand() > 21)
-                {
-                    roundResolved = true;
-                    scoreGame();
-                    startNextRound();
-                }
-            }
-            if(!roundResolved)
+        printPlayers();
+
+        out.println("Please enter one of the following:");
+        out.println("* Stay");
+        out.println("* Hit");
+        out.println("* Surrender");
+        out.println("* Double Down");
+        out.println("* Hint");
+        phase = Phase.FIRST_ACTION;
+    }
+
+    /**
+     * Prints the expected value of each action the player can take, counting the cards they can't see.
+     */
+    private void printExpectedValues(boolean canDoubleDown)
+    {
+        if (advisor == null)
+        {
+            advisor = new ExpectedValueAdvisor();
+        }
+
+        advisor.expectedValues(player, dealer, actionValues);
+
+        StringBuilder values = new StringBuilder("Counting the cards left: ");
+
+        values.append(ExpectedValueAdvisor.bestAction(actionValues, canDoubleDown).getCommand()).append(" (");
+
+        for (BlackJackAction action : BlackJackAction.values())
+        {
+            if (canDoubleDown || action != BlackJackAction.DOUBLE_DOWN)
             {
-                scoreGame();
-                startNextRound();
+                values.append(action == BlackJackAction.STAY ? "" : ", ").append(action.getCommand())
+                      .append(String.format(" %+.3f", actionValues[action.ordinal()]));
             }
         }
-        while (running);
+
+        out.println(values.append(" bets)"));
+    }
+
+    /**
+     * Handles the player's choice to stay, hit, surrender or, as their first action, double down. Asking for a hint
+     * shows the expected value of each action for the cards left and the basic strategy play, and leaves the choice
+     * open.
+     */
+    private void takeAction(CharSequence input)
+    {
+        if (BlackJackAction.matches(input, "hint"))
+        {
+            boolean canDoubleDown = phase == Phase.FIRST_ACTION && player.getStash() >= getBet();
+            BlackJackAction hint = BasicStrategy.INSTANCE.decide(player, dealer.getHand().get(1), canDoubleDown);
+
+            printExpectedValues(canDoubleDown);
+            out.println("Basic strategy says: " + hint.getCommand());
+            return;
+        }
+
+        BlackJackAction action = BlackJackAction.fromCommand(input);
+
+        if (action == null || (action == BlackJackAction.DOUBLE_DOWN && phase != Phase.FIRST_ACTION))
+        {
+            err.println("Please enter a valid option");
+            return;
+        }
+        if (journal != null)
+        {
+            history.addAction(action);
+        }
+
+        switch (action)
+        {
+            case DOUBLE_DOWN -> playDoubleDown();
+            case HIT -> playHit();
+            case SURRENDER -> playSurrender();
+            case STAY -> playStay();
+        }
+    }
+
+    private void playDoubleDown()
+    {
+        if (!doubleDown())
+        {
+            out.println("Player doesn't have enough money to double down!");
+            out.println("You can still stay, hit or surrender");
+            phase = Phase.ACTION;
+            return;
+        }
+
+        out.println("Player doubles down!\n");
+        doubled = true;
+
+        dealTo(player, true);
+        printPlayers();
+
+        if (player.scoreHand() > 21)
+        {
+            scoreGame();
+            endRound();
+        }
+        else
+        {
+            playStay();
+        }
+    }
+
+    private void playHit()
+    {
+        dealTo(player, true);
+        log.info("Player chooses to hit");
+        printPlayers();
+
+        if (player.scoreHand() > 21)
+        {
+            scoreGame();
+            endRound();
+        }
+        else
+        {
+            out.println("Hit, stay or surrender?");
+            phase = Phase.ACTION;
+        }
+    }
+
+    private void playSurrender()
+    {
+        int playerRefund = BlackJackOutcome.SURRENDER.playerShare(getPot(), getBet());
+        int dealerWinnings = getPot() - playerRefund;
+
+        out.println("Player surrenders");
+        out.println("Dealer wins $" + dealerWinnings);
+        out.println("Player receives a refund of $" + playerRefund + "\n");
+
+        dealer.setStash(dealer.getStash() + dealerWinnings);
+        player.setStash(player.getStash() + playerRefund);
+        outcome = BlackJackOutcome.SURRENDER;
+        settledPot = getPot();
+        setPot(0);
+
+        playerLosses++;
+        endRound();
+    }
+
+    private void playStay()
+    {
+        out.println("Dealer's turn...\n");
+        dealer.showAllCards();
+
+        while(dealer.scoreHand() < 17)
+        {
+            dealTo(dealer, true);
+            log.info(() -> "Dealer draws a " + dealer.getHand().getLast().toString());
+            out.println("Dealer draws a " + dealer.getHand().getLast().toString());
+        }
+
+        scoreGame();
+        endRound();
     }
 
     /**
@@ -404,8 +656,7 @@ public class BlackJackTable implements CardGame
      */
     public void printPlayers()
     {
-        System.out.println(player.toString());
-        System.out.println(dealer.toString());
+        renderer.printPlayers(out, player, dealer);
     }
 
     /**
@@ -414,11 +665,25 @@ public class BlackJackTable implements CardGame
      */
     public void roundStartDeal()
     {
-        player.receiveCard(dealer.deal(), true);
-        player.receiveCard(dealer.deal(), true);
+        dealTo(player, true);
+        dealTo(player, true);
+
+        dealTo(dealer, false);
+        dealTo(dealer, true);
+    }
+
+    /**
+     * Deals the next card from the shoe to the player or the dealer, noting it in the hand history.
+     */
+    private void dealTo(BlackJackPlayer hand, boolean visible)
+    {
+        Card card = dealer.deal();
+        hand.receiveCard(card, visible);
 
-        dealer.receiveCard(dealer.deal(), false);
-        dealer.receiveCard(dealer.deal(), true);
+        if (journal != null)
+        {
+            history.addCard(card, hand == dealer);
+        }
     }
 
     /**
@@ -427,170 +692,205 @@ public class BlackJackTable implements CardGame
      */
     public void scoreGame()
     {
-        if(player.hasBlackJack())
-        {
-            System.out.println("Player has a Blackjack!");
-            System.out.println("Player receives the pot of $" + getPot() + "\n");
-            log.info("Player received $" + getPot());
-            player.setStash(player.getStash() + pot);
-            setPot(0);
-            playerWins++;
-        }
-        else if(dealer.hasBlackJack())
-        {
-            System.out.println("Dealer has a Blackjack!");
-            System.out.println("Dealer receives the pot of $" + getPot() + "\n");
-            log.info("Dealer receives the pot of $" + getBet() + "\n");
-            dealer.setStash(dealer.getStash() + getBet());
-            setPot(0);
-            playerLosses++;
-        }
-        // Returns the amount both player bet, versus the option of splitting the pot
-        else if(player.scoreHand() == dealer.scoreHand() || player.hasBlackJack() && dealer.hasBlackJack())
+        outcome = BlackJackOutcome.of(player, dealer);
+        int playerShare = outcome.playerShare(getPot(), getBet());
+
+        switch (outcome)
         {
-            System.out.println("Push! Both the player and the dealer have " + player.scoreHand() + " points!");
-            log.info("Push: both player and dealer have " + player.scoreHand());
-            System.out.println("Returning bets... \n");
+            case PLAYER_BLACKJACK ->
+            {
+                out.println("Player has a Blackjack!");
+                out.println("Player receives the pot of $" + getPot() + "\n");
+                log.info(() -> "Player received $" + getPot());
+            }
+            case DEALER_BLACKJACK ->
+            {
+                out.println("Dealer has a Blackjack!");
+                out.println("Dealer receives the pot of $" + getPot() + "\n");
+                log.info(() -> "Dealer receives the pot of $" + getPot());
+            }
+            // Returns the amount both player bet, versus the option of splitting the pot
+            case PUSH ->
+            {
+                out.println("Push! Both the player and the dealer have " + player.scoreHand() + " points!");
+                log.info(() -> "Push: both player and dealer have " + player.scoreHand());
+                out.println("Returning bets... \n");
 
-            System.out.println("Player receives $" + getBet());
-            log.info("Refunding bet of $" + getBet() + " to player and $" + dealerBet + " to dealer.");
-            player.setStash(player.getStash() + getBet());
+                out.println("Player receives $" + playerShare);
+                log.info(() -> "Refunding bet of $" + playerShare + " to player and $" + (getPot() - playerShare) + " to dealer.");
+                out.println("Dealer receives $" + (getPot() - playerShare) + "\n");
+            }
+            case PLAYER_BUST ->
+            {
+                out.println("Player busts!");
+                out.println("Player Score: " + player.scoreHand());
+                out.println("Dealer receives the pot of $" + getPot() + "\n");
+                log.info(() -> "Player busts with score " + player.scoreHand());
+            }
+            case DEALER_BUST ->
+            {
+                out.println("Dealer busts!");
+                log.info(() -> "Dealer score: " + dealer.scoreHand());
+                out.println("Player receives the pot of $" + getPot() + "\n");
+            }
+            case PLAYER_WINS ->
+            {
+                out.println("Player wins with " + player.scoreHand() + " points!");
+                out.println("Player receives the pot of $" + getPot() + "\n");
+                log.info(() -> "Player wins with " + player.scoreHand() + " vs dealer " + dealer.scoreHand());
+            }
+            default ->
+            {
+                out.println("Dealer wins with " + dealer.scoreHand() + " points!");
+                out.println("Dealer receives the pot of $" + getPot() + "\n");
+                printPlayers();
+                log.info(() -> "Dealer wins with " + dealer.scoreHand() + " vs player " + player.scoreHand());
+            }
+        }
 
-            System.out.println("Dealer receives $" + dealerBet + "\n");
-            dealer.setStash(dealer.getStash() + dealerBet);
+        player.setStash(player.getStash() + playerShare);
+        dealer.setStash(dealer.getStash() + getPot() - playerShare);
+        settledPot = getPot();
+        setPot(0);
 
-            setPot(0);
-        }
-        else if(player.scoreHand() > 21)
-        {
-            System.out.println("Player busts!");
-            System.out.println("Player Score: " + player.scoreHand());
-            System.out.println("Dealer receives the pot of $" + getPot() + "\n");
-            log.info("Player busts with score " + player.scoreHand());
-            dealer.setStash(dealer.getStash() + getPot());
-            setPot(0);
-            playerLosses++;
-        }
-        else if(dealer.scoreHand() > 21)
-        {
-            System.out.println("Dealer busts!");
-            log.info("Dealer score: " + dealer.scoreHand());
-            System.out.println("Player receives the pot of $" + getPot() + "\n");
-            player.setStash(player.getStash() + pot);
-            setPot(0);
-            playerWins++;
-        }
-        else if(player.scoreHand() > dealer.scoreHand())
+        if(outcome.isPlayerWin())
         {
-            System.out.println("Player wins with " + player.scoreHand() + " points!");
-            System.out.println("Player receives the pot of $" + getPot() + "\n");
-            log.info("Player wins with " + player.scoreHand() + " vs dealer " + dealer.scoreHand());
-            player.setStash(player.getStash() + pot);
-            setPot(0);
             playerWins++;
         }
-        else if(dealer.scoreHand() > player.scoreHand())
+        else if(outcome.isPlayerLoss())
         {
-            System.out.println("Dealer wins with " + dealer.scoreHand() + " points!");
-            System.out.println("Dealer receives the pot of $" + getPot() + "\n");
-            printPlayers();
-            log.info("Dealer wins with " + dealer.scoreHand() + " vs player " + player.scoreHand());
-            dealer.setStash(dealer.getStash() + getPot());
-            setPot(0);
             playerLosses++;
         }
 
-        System.out.println("Final score:\n");
+        out.println("Final score:\n");
         dealer.showAllCards();
         printPlayers();
     }
 
     /**
-     * Prompts the player to start another round or exit the game.
-     * Resets hands and deck if the player chooses to continue.
-     * This should be followed by a continue statement in the main game loop, in order to restart the loop.
-     * If the player says no, it shuts down the game.
+     * Ends the round: the game is over if either side has run out of money, and otherwise the player is asked whether
+     * to play another round.
      */
-    public void startNextRound()
+    private void endRound()
     {
+        writeHistory();
+        roundTracker++;
+
         if(player.getStash() == 0)
         {
-            System.out.println("Player has no money remaining to continue. Game over!");
+            out.println("Player has no money remaining to continue. Game over!");
             log.info("Player ran out of money. Game over.");
-            System.exit(0);
+            endGame(GameResult.Ending.PLAYER_OUT_OF_MONEY);
+            return;
         }
         if(dealer.getStash() == 0)
         {
-            System.out.println("Dealer has no money remaining to continue. You win!");
+            out.println("Dealer has no money remaining to continue. You win!");
             log.info("Dealer ran out of money. Player wins the game.");
-            System.exit(0);
+            endGame(GameResult.Ending.DEALER_OUT_OF_MONEY);
+            return;
         }
 
-        roundTracker++;
         printMainMenu();
+        promptForNextRound();
+    }
 
-        try
+    /**
+     * Handles the player's answer to whether they want another round. Resets hands if the player chooses to continue,
+     * and shuffles the shoe once the cut card has come out. If the player says no, the game is over.
+     */
+    private void answerNextRound(CharSequence response)
+    {
+        if(BlackJackAction.matches(response, "yes"))
         {
-            while(true)
+            out.println("Starting next round...\n");
+            log.info("Player chooses to continue.");
+
+            player.clearHand();
+            dealer.clearHand();
+
+            if(dealer.shuffleIfCutCardReached())
             {
-                System.out.println("Would you like to play another round?");
-                String response = scanner.nextLine().toLowerCase().trim();
-
-                if(response.equals("yes"))
-                {
-                    System.out.println("Starting next round...\n");
-                    log.info("Player chooses to continue.");
-
-                    player.clearHand();
-                    dealer.clearHand();
-                    dealer.resetDeck();
-                    break;
-                }
-                else if(response.equals("no"))
-                {
-                    System.out.println("Thanks for playing!");
-                    log.info("Player chooses to exit the game.");
-                    System.exit(1);
-                }
-                else
-                {
-                    System.err.println("Please enter a valid option.");
-                    log.warning("Invalid input during next round prompt.");
-                }
+                out.println("The cut card is out. The dealer shuffles the shoe.\n");
+                log.info("Cut card reached, shoe shuffled.");
             }
+
+            promptForBet();
+        }
+        else if(BlackJackAction.matches(response, "no"))
+        {
+            out.println("Thanks for playing!");
+            log.info("Player chooses to exit the game.");
+            endGame(GameResult.Ending.PLAYER_LEFT);
+        }
+        else
+        {
+            err.println("Please enter a valid option.");
+            log.warning("Invalid input during next round prompt.");
+            promptForNextRound();
+        }
+    }
+
+    /**
+     * Writes the round that just ended to the journal, if there is one.
+     */
+    private void writeHistory()
+    {
+        if (journal == null)
+        {
+            return;
         }
-        catch(Exception e)
+
+        history.setResult(outcome, bet, settledPot, doubled, player.getStash(), dealer.getStash(),
+                          System.currentTimeMillis());
+
+        try
         {
-            System.err.println("An unexpected error occurred.");
-            log.severe(e.getMessage());
+            journal.append(history);
         }
+        catch (IOException e)
+        {
+            log.severe(() -> "Could not write the round to the hand history: " + e.getMessage());
+        }
+    }
+
+    private void promptForBet()
+    {
+        out.println("Place your bets!");
+        phase = Phase.BETTING;
+    }
+
+    private void promptForNextRound()
+    {
+        out.println("Would you like to play another round?");
+        phase = Phase.NEXT_ROUND;
     }
 
     public void printMainMenu()
     {
         if(roundTracker == 0)
         {
-            System.out.println("Welcome to the game!");
+            out.println("Welcome to the game!");
             log.info("Game started.");
         }
         else
         {
-            System.out.println("Round over!");
-            log.info("Round " + roundTracker + " completed.");
+            out.println("Round over!");
+            log.info(() -> "Round " + roundTracker + " completed.");
         }
 
-        System.out.println("Rounds played: " + roundTracker);
+        out.println("Rounds played: " + roundTracker);
 
         if(playerLosses == 0)
         {
-            System.out.println("W/L Ratio: " + (double) playerWins);
+            out.println("W/L Ratio: " + (double) playerWins);
         }
         else
         {
-            System.out.printf("W/L Ratio: %.2f%n",(double) playerWins / playerLosses);
+            out.printf("W/L Ratio: %.2f%n",(double) playerWins / playerLosses);
         }
 
-        System.out.println("Money remaining: $" + player.getStash() + "\n");
+        out.println("Money remaining: $" + player.getStash() + "\n");
     }
 
     /**
@@ -614,4 +914,17 @@ public class BlackJackTable implements CardGame
             return false;
         }
     }
+
+    /**
+     * Ends the game and records its result.
+     *
+     * @param ending Why the game ended.
+     */
+    private void endGame(GameResult.Ending ending)
+    {
+        result = new GameResult(ending, roundTracker, (int) playerWins, (int) playerLosses, player.getStash(),
+                                dealer.getStash());
+        phase = Phase.OVER;
+        out.flush();
+    }
 }
@@ -0,0 +1,112 @@
+import java.util.random.RandomGenerator;
+
+/**
+ * A deck stored as a primitive byte array of encoded cards (see CardCodec), intended for simulations that deal far
+ * more cards than the console game. Dealing moves a cursor through the array and shuffling permutes it in place, so
+ * nothing is allocated after construction.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class ByteDeck
+{
+    private final byte[] cards;
+    private final RandomGenerator random;
+    private int next;
+
+    /**
+     * Constructs a shuffled deck made up of the given number of standard 52-card decks.
+     *
+     * @param decks The number of 52-card decks to include.
+     */
+    public ByteDeck(int decks)
+    {
+        this(decks, RandomSource.next());
+    }
+
+    /**
+     * Constructs a shuffled deck made up of the given number of standard 52-card decks, shuffled with the given
+     * random number generator.
+     *
+     * @param decks  The number of 52-card decks to include.
+     * @param random The random number generator used for shuffling.
+     * @throws IllegalArgumentException if decks is less than 1.
+     */
+    public ByteDeck(int decks, RandomGenerator random)
+    {
+        if (decks < 1)
+        {
+            throw new IllegalArgumentException("A deck must contain at least one set of 52 cards");
+        }
+
+        this.cards = new byte[decks * 52];
+        this.random = random;
+
+        int i = 0;
+
+        for (int d = 0; d < decks; d++)
+        {
+            for (Suit suit : Suit.values())
+            {
+                for (int rank = 2; rank <= 14; rank++)
+                {
+                    cards[i++] = CardCodec.encode(suit, rank);
+                }
+            }
+        }
+
+        shuffle();
+    }
+
+    /**
+     * Deals the next card from the deck.
+     *
+     * @return The next encoded card, or CardCodec.NO_CARD if the deck is empty.
+     */
+    public byte deal()
+    {
+        if (next < cards.length)
+        {
+            return cards[next++];
+        }
+
+        return CardCodec.NO_CARD;
+    }
+
+    /**
+     * Returns the number of cards remaining in the deck.
+     *
+     * @return The number of cards left.
+     */
+    public int cardsLeftInDeck()
+    {
+        return cards.length - next;
+    }
+
+    /**
+     * Returns the total number of cards in the deck, dealt or not.
+     *
+     * @return The size of the deck.
+     */
+    public int size()
+    {
+        return cards.length;
+    }
+
+    /**
+     * Gathers every card back into the deck and shuffles it in place (Fisher–Yates).
+     */
+    public final void shuffle()
+    {
+        for (int i = cards.length - 1; i > 0; i--)
+        {
+            int j = random.nextInt(i + 1);
+            byte card = cards[i];
+
+            cards[i] = cards[j];
+            cards[j] = card;
+        }
+
+        next = 0;
+    }
+}
@@ -0,0 +1,132 @@
+/**
+ * A hand of encoded cards (see CardCodec) held in a fixed primitive array, for simulations that score many more hands
+ * than the console game. Adding a card and scoring a hand allocate nothing, and clear() makes the hand reusable for
+ * the next round.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class ByteHand
+{
+    /**
+     * The most cards a hand can hold. A Blackjack hand busts long before reaching this.
+     */
+    public static final int MAX_CARDS = 24;
+
+    private final byte[] cards = new byte[MAX_CARDS];
+    private int size;
+
+    /**
+     * Adds an encoded card to the hand.
+     *
+     * @param card The encoded card to add.
+     * @throws IllegalStateException if the hand is already full.
+     */
+    public void add(byte card)
+    {
+        if (size == MAX_CARDS)
+        {
+            throw new IllegalStateException("A hand cannot hold more than " + MAX_CARDS + " cards");
+        }
+
+        cards[size++] = card;
+    }
+
+    /**
+     * Returns the encoded card at the given position in the hand.
+     *
+     * @param index The position of the card.
+     * @return The encoded card.
+     * @throws IndexOutOfBoundsException if the index is outside the hand.
+     */
+    public byte get(int index)
+    {
+        if (index < 0 || index >= size)
+        {
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        return cards[index];
+    }
+
+    /**
+     * Returns the number of cards in the hand.
+     *
+     * @return The number of cards.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Removes all cards from the hand.
+     */
+    public void clear()
+    {
+        size = 0;
+    }
+
+    /**
+     * Calculates the score of the hand according to Blackjack rules. Aces count as 11 unless that would bust the hand,
+     * in which case they count as 1, one at a time.
+     *
+     * @return The total score of the hand.
+     */
+    public int scoreBlackJack()
+    {
+        int score = 0;
+        int aceCount = 0;
+
+        for (int i = 0; i < size; i++)
+        {
+            int value = CardCodec.blackJackValue(cards[i]);
+
+            score += value;
+
+            if (value == 11)
+            {
+                aceCount++;
+            }
+        }
+
+        while (score > 21 && aceCount > 0)
+        {
+            score -= 10;
+            aceCount--;
+        }
+
+        return score;
+    }
+
+    /**
+     * Checks if the hand is a natural Blackjack: exactly two cards worth 21.
+     *
+     * @return true if the hand is a Blackjack, false otherwise.
+     */
+    public boolean hasBlackJack()
+    {
+        return size == 2 && CardCodec.blackJackValue(cards[0]) + CardCodec.blackJackValue(cards[1]) == 21;
+    }
+
+    /**
+     * Sorts the hand in place by rank and then suit, in the same order CardComparator uses.
+     */
+    public void sort()
+    {
+        // Insertion sort: hands are small and this keeps the sort allocation-free.
+        for (int i = 1; i < size; i++)
+        {
+            byte card = cards[i];
+            int j = i - 1;
+
+            while (j >= 0 && CardCodec.compare(cards[j], card) > 0)
+            {
+                cards[j + 1] = cards[j];
+                j--;
+            }
+
+            cards[j + 1] = card;
+        }
+    }
+}
@@ -1,132 +1,148 @@
-import java.util.Objects;
-
 /**
  * Represents a single playing card in a standard deck, used in card games like Blackjack or Poker. Each card has a
- * suit, a value (2–14), a visibility status, and a display name. Implements Comparable for sorting cards by value.
- * Value should be between 2 (Two) and 14 (Ace), inclusive. Cards can be shown or hidden, and only visible cards
- * display their full name.
+ * suit, a rank (2–14), a game value, and a display name. Implements Comparable for sorting cards by value.
+ * Value should be between 2 (Two) and 14 (Ace), inclusive.
+ *
+ * Cards are immutable, so the 52 cards of a standard deck (and the 52 Blackjack-valued cards) are created once and
+ * shared through Card.of() and Card.ofBlackJack(). Whether a card is face-up or face-down belongs to the hand holding
+ * it, not to the card itself.
  *
  * @author Tyler Lang
  * @version 2025.04.03
  */
-public class Card implements Comparable<Card>
+public final class Card implements Comparable<Card>
 {
-    private Suit suit;
-    private int value;
-    private boolean visible;
-    private String name;
+    private static final Card[] STANDARD = new Card[Suit.values().length * 13];
+    private static final Card[] BLACKJACK = new Card[Suit.values().length * 13];
 
-    /**
-     * Constructs a card with the specified suit, value, visibility, and display name.
-     *
-     * @param suit    The suit the card belongs to.
-     * @param value   The value assigned to the card (2–14).
-     * @param visible Whether the card is face-up (true) or face-down (false).
-     * @param name    The display name of the card, e.g., "Ace".
-     */
-    public Card(Suit suit, int value, boolean visible, String name)
+    static
     {
-        //Assign properties, and ensure the value is between 2 and 11, inclusive
-        this.suit = suit;
-        this.visible = visible;
-        setValue(value);
-        this.name = name;
+        for (Suit suit : Suit.values())
+        {
+            for (int rank = 2; rank <= 14; rank++)
+            {
+                String name = rankName(rank);
+                int blackJackValue = (rank == 14) ? 11 : Math.min(rank, 10);
+
+                STANDARD[index(suit, rank)] = new Card(suit, rank, rank, name);
+                BLACKJACK[index(suit, rank)] = new Card(suit, rank, blackJackValue, name);
+            }
+        }
     }
 
+    private final Suit suit;
+    private final int rank;
+    private final int value;
+    private final String name;
+    private final int hash;
+
     /**
-     * Returns the suit of the card.
+     * Constructs a card with the specified suit, value, and display name. Prefer Card.of() or Card.ofBlackJack() for
+     * the cards of a real deck; this constructor is for one-off cards with a custom value or name.
      *
-     * @return The card's suit.
+     * The card's rank is taken from a face card's or Ace's name when its value fits that rank in either Poker or
+     * Blackjack, so new Card(suit, 11, "Ace") is an Ace and new Card(suit, 10, "Queen") a Queen. Any other card's
+     * rank is its value.
+     *
+     * @param suit  The suit the card belongs to.
+     * @param value The value assigned to the card (2–14).
+     * @param name  The display name of the card, e.g., "Ace".
      */
-    public Suit getSuit()
+    public Card(Suit suit, int value, String name)
     {
-        return suit;
+        this(suit, rankOf(value, name), validValue(value), name);
+    }
+
+    private Card(Suit suit, int rank, int value, String name)
+    {
+        this.suit = suit;
+        this.rank = rank;
+        this.value = value;
+        this.name = name;
+        this.hash = 31 * (31 * value + (suit == null ? 0 : suit.hashCode())) + (name == null ? 0 : name.hashCode());
     }
 
     /**
-     * Returns the numerical value of the card.
+     * Returns the shared card for the given suit and rank, valued the way a standard (Poker) deck values it.
      *
-     * @return The card's value (2–14).
+     * @param suit The suit of the card.
+     * @param rank The rank of the card, from 2 (Two) to 14 (Ace).
+     * @return The canonical card instance.
+     * @throws IllegalArgumentException if the rank is outside 2–14.
      */
-    public int getValue()
+    public static Card of(Suit suit, int rank)
     {
-        return value;
+        return STANDARD[index(suit, rank)];
     }
 
     /**
-     * Returns the display name of the card.
+     * Returns the shared card for the given suit and rank, valued the way Blackjack values it: face cards are worth
+     * 10 and Aces are worth 11.
      *
-     * @return The card's name (e.g., "King").
-     * */
-    public String getName()
+     * @param suit The suit of the card.
+     * @param rank The rank of the card, from 2 (Two) to 14 (Ace).
+     * @return The canonical card instance.
+     * @throws IllegalArgumentException if the rank is outside 2–14.
+     */
+    public static Card ofBlackJack(Suit suit, int rank)
     {
-        return name;
+        return BLACKJACK[index(suit, rank)];
     }
 
     /**
-     * Checks if the card's face is visible.
+     * Returns the suit of the card.
      *
-     * @return true if the card is face-up, false if face-down.
+     * @return The card's suit.
      */
-    public boolean isVisible()
+    public Suit getSuit()
     {
-        return visible;
+        return suit;
     }
 
     /**
-     * Sets the card's value if it's between 2 and 14, inclusive.
+     * Returns the rank of the card, independent of the game it is valued for.
      *
-     * @param value The value to assign to the card.
+     * @return The card's rank (2–14, where 11–14 are Jack, Queen, King and Ace).
      */
-    public void setValue(int value)
+    public int getRank()
     {
-        if (value >= 2 && value <= 14)
-        {
-            this.value = value;
-        }
-        else
-        {
-            System.err.println("Received card value is invalid. Value must be no less than 2 and no greater than 14.");
-        }
+        return rank;
     }
 
     /**
-     * Makes the card visible (face-up).
+     * Returns the numerical value of the card.
+     *
+     * @return The card's value (2–14).
      */
-    public void show()
+    public int getValue()
     {
-        visible = true;
+        return value;
     }
 
     /**
-     * Hides the card (makes it face-down).
-     */
-    public void hide()
+     * Returns the display name of the card.
+     *
+     * @return The card's name (e.g., "King").
+     * */
+    public String getName()
     {
-        visible = false;
+        return name;
     }
 
     /**
-     * Returns a string representation of the card. If the card is visible, returns its name and suit
-     * (e.g., "Queen of Hearts"). If hidden, returns "Hidden Card".
+     * Returns a string representation of the card, its name and suit (e.g., "Queen of Hearts").
      *
      * @return A string representation of the card.
      */
     @Override
     public String toString()
     {
-        if (visible)
-        {
-            return getName() + " of " + getSuit();
-        }
-        else
-        {
-            return "Hidden Card";
-        }
+        return getName() + " of " + getSuit();
     }
 
     /**
      * Checks if this card is equal to another object. Cards are equal if they have the same suit, value, and name.
+     * Canonical cards are only ever equal to themselves, so the identity check answers almost every lookup.
      *
      * @param obj The object to compare.
      * @return true if the cards are equal, false otherwise.
@@ -136,21 +152,22 @@ public class Card implements Comparable<Card>
     {
         Card card;
 
+        if (this == obj) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
 
         card = (Card) obj;
-        return value == card.value && suit == card.suit && name.equals(card.name);
+        return hash == card.hash && value == card.value && suit == card.suit && name.equals(card.name);
     }
 
     /**
-     * Returns a hash code for this card based on its suit, value, and name.
+     * Returns a hash code for this card based on its suit, value, and name. The hash is computed once on construction.
      *
      * @return The hash code of the card.
      */
     @Override
     public int hashCode()
     {
-        return Objects.hash(value, suit, name);
+        return hash;
     }
 
     /**
@@ -165,4 +182,58 @@ public class Card implements Comparable<Card>
     {
         return this.value - card.value;
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the display name for a rank, e.g. "7" or "Queen".
+     *
+     * @param rank The rank, from 2 to 14.
+     * @return The display name of the rank.
+     */
+    static String rankName(int rank)
+    {
+        return switch (rank)
+        {
+            case 11 -> "Jack";
+            case 12 -> "Queen";
+            case 13 -> "King";
+            case 14 -> "Ace";
+            default -> String.valueOf(rank);
+        };
+    }
+
+    private static int index(Suit suit, int rank)
+    {
+        if (rank < 2 || rank > 14)
+        {
+            throw new IllegalArgumentException("Card rank must be between 2 and 14, inclusive.");
+        }
+
+        return suit.ordinal() * 13 + (rank - 2);
+    }
+
+    private static int rankOf(int value, String name)
+    {
+        for (int rank = 11; rank <= 14; rank++)
+        {
+            int blackJackValue = (rank == 14) ? 11 : 10;
+
+            if (rankName(rank).equals(name) && (value == rank || value == blackJackValue))
+            {
+                return rank;
+            }
+        }
+
+        return value;
+    }
+
+    private static int validValue(int value)
+    {
+        if (value >= 2 && value <= 14)
+        {
+            return value;
+        }
+
+        System.err.println("Received card value is invalid. Value must be no less than 2 and no greater than 14.");
+        return 0;
+    }
+}
@@ -0,0 +1,132 @@
+/**
+ * Packs a playing card into a single byte so that decks and hands can be stored in primitive arrays. The rank (2–14)
+ * is kept in the upper bits and the suit's ordinal in the lowest two bits, so every encoded card is between 8 and 59
+ * and NO_CARD (-1) can never collide with a real card.
+ *
+ * Encoded cards convert back to the shared Card instances, and compare() orders them the same way CardComparator
+ * orders standard-valued cards, so code working on bytes and code working on Card objects agree.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public final class CardCodec
+{
+    /**
+     * Returned in place of a card when there is no card to return, e.g. when dealing from an empty deck.
+     */
+    public static final byte NO_CARD = -1;
+
+    private static final int SUIT_BITS = 2;
+    private static final int SUIT_MASK = (1 << SUIT_BITS) - 1;
+    private static final Suit[] SUITS = Suit.values();
+
+    private CardCodec()
+    {
+
+    }
+
+    /**
+     * Encodes a suit and rank into one byte.
+     *
+     * @param suit The suit of the card.
+     * @param rank The rank of the card, from 2 (Two) to 14 (Ace).
+     * @return The encoded card.
+     */
+    public static byte encode(Suit suit, int rank)
+    {
+        return (byte) ((rank << SUIT_BITS) | suit.ordinal());
+    }
+
+    /**
+     * Encodes a card into one byte using its suit and rank.
+     *
+     * @param card The card to encode.
+     * @return The encoded card.
+     */
+    public static byte encode(Card card)
+    {
+        return encode(card.getSuit(), card.getRank());
+    }
+
+    /**
+     * Returns the rank of an encoded card.
+     *
+     * @param card The encoded card.
+     * @return The rank, from 2 (Two) to 14 (Ace).
+     */
+    public static int rank(byte card)
+    {
+        return card >> SUIT_BITS;
+    }
+
+    /**
+     * Returns the suit of an encoded card.
+     *
+     * @param card The encoded card.
+     * @return The card's suit.
+     */
+    public static Suit suit(byte card)
+    {
+        return SUITS[card & SUIT_MASK];
+    }
+
+    /**
+     * Returns the Blackjack value of an encoded card: face cards are worth 10 and Aces are worth 11.
+     *
+     * @param card The encoded card.
+     * @return The Blackjack value of the card.
+     */
+    public static int blackJackValue(byte card)
+    {
+        int rank = card >> SUIT_BITS;
+
+        if (rank == 14)
+        {
+            return 11;
+        }
+
+        return rank < 10 ? rank : 10;
+    }
+
+    /**
+     * Returns the shared standard-valued card for an encoded card.
+     *
+     * @param card The encoded card.
+     * @return The canonical Card instance.
+     */
+    public static Card toCard(byte card)
+    {
+        return Card.of(suit(card), rank(card));
+    }
+
+    /**
+     * Returns the shared Blackjack-valued card for an encoded card.
+     *
+     * @param card The encoded card.
+     * @return The canonical Card instance.
+     */
+    public static Card toBlackJackCard(byte card)
+    {
+        return Card.ofBlackJack(suit(card), rank(card));
+    }
+
+    /**
+     * Compares two encoded cards by rank, and if equal, by suit, matching CardComparator on standard-valued cards.
+     *
+     * @param card1 the first encoded card
+     * @param card2 the second encoded card
+     * @return a negative integer if card1 is less than card2, zero if equal, or a positive integer if card1 is greater
+     * than card2
+     */
+    public static int compare(byte card1, byte card2)
+    {
+        int cardValue = rank(card1) - rank(card2);
+
+        if (cardValue != 0)
+        {
+            return cardValue;
+        }
+
+        return (card1 & SUIT_MASK) - (card2 & SUIT_MASK);
+    }
+}
@@ -0,0 +1,107 @@
+/**
+ * Keeps running counts for every CountingSystem as the cards of a shoe are seen, so the counts, the true counts and the
+ * cards left are always a few arithmetic operations away rather than a scan of the shoe.
+ *
+ * A BlackJackDealer owns the counter for its shoe and resets it whenever the shoe is shuffled. The dealer and the
+ * players at its table count a card when they receive it face-up, or when showAllCards() turns it over, so a hole
+ * card is only counted once it is revealed and a card is never counted twice.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public final class CardCounter
+{
+    private static final CountingSystem[] SYSTEMS = CountingSystem.values();
+
+    // True counts are never divided by less than half a deck, as a counter judging the discard tray would
+    private static final int MIN_CARDS_LEFT = 26;
+
+    private final Shoe shoe;
+    private final int[] runningCounts = new int[SYSTEMS.length];
+    private int cardsSeen;
+
+    /**
+     * Constructs a counter for a freshly shuffled shoe.
+     *
+     * @param shoe The shoe whose cards are counted.
+     */
+    public CardCounter(Shoe shoe)
+    {
+        this.shoe = shoe;
+        reset();
+    }
+
+    /**
+     * Counts a card that has been seen.
+     *
+     * @param card The card.
+     */
+    public void count(Card card)
+    {
+        int rank = card.getRank();
+
+        for (int i = 0; i < SYSTEMS.length; i++)
+        {
+            runningCounts[i] += SYSTEMS[i].tag(rank);
+        }
+
+        cardsSeen++;
+    }
+
+    /**
+     * Starts the counts over, as when the shoe is shuffled.
+     */
+    public void reset()
+    {
+        for (int i = 0; i < SYSTEMS.length; i++)
+        {
+            runningCounts[i] = SYSTEMS[i].initialCount(shoe.getDecks());
+        }
+
+        cardsSeen = 0;
+    }
+
+    /**
+     * Returns the running count for a system: the sum of its tags for every card seen since the shoe was shuffled,
+     * starting from the system's initial count.
+     *
+     * @param system The counting system.
+     * @return The running count.
+     */
+    public int getRunningCount(CountingSystem system)
+    {
+        return runningCounts[system.ordinal()];
+    }
+
+    /**
+     * Returns the true count for a system: the running count per deck left in the shoe, with at least half a deck
+     * assumed to be left. Unbalanced systems such as KO are meant to be played from the running count alone.
+     *
+     * @param system The counting system.
+     * @return The true count.
+     */
+    public double getTrueCount(CountingSystem system)
+    {
+        return runningCounts[system.ordinal()] * 52.0 / Math.max(MIN_CARDS_LEFT, getCardsRemaining());
+    }
+
+    /**
+     * Returns the number of cards counted since the shoe was shuffled.
+     *
+     * @return The number of cards seen.
+     */
+    public int getCardsSeen()
+    {
+        return cardsSeen;
+    }
+
+    /**
+     * Returns the number of cards still in the shoe.
+     *
+     * @return The number of cards left to deal.
+     */
+    public int getCardsRemaining()
+    {
+        return shoe.cardsLeftInDeck();
+    }
+}
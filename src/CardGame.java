@@ -1,5 +1,52 @@
-
+/**
+ * A card game that can be played from start to finish with play(), or driven one line of player input at a time with
+ * start() and step().
+ *
+ * A game never ends the program. Once it is over, play() returns its result, isOver() turns true and getResult() holds
+ * the result, and reset() sets the same game up to be played again, so one process can run any number of games in a
+ * row.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
 public interface CardGame
 {
-    void play();
+    /**
+     * Plays the whole game, reading the player's input as it goes.
+     *
+     * @return How the game ended.
+     */
+    GameResult play();
+
+    /**
+     * Starts the game and writes the first prompt.
+     */
+    void start();
+
+    /**
+     * Handles one line of the player's input and writes the response, without waiting for further input. The line is
+     * only read during the call, so a caller can pass a buffer it reuses for every line.
+     *
+     * @param input One line entered by the player.
+     */
+    void step(CharSequence input);
+
+    /**
+     * Checks if the game has finished.
+     *
+     * @return true if the game is over, false otherwise.
+     */
+    boolean isOver();
+
+    /**
+     * Returns how the game ended.
+     *
+     * @return The result, or null if the game isn't over.
+     */
+    GameResult getResult();
+
+    /**
+     * Puts the game back to how it was before it started, abandoning any game in progress, so it can be started again.
+     */
+    void reset();
 }
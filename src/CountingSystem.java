@@ -0,0 +1,74 @@
+/**
+ * Card-counting systems, each of which tags every rank with a small integer to add to a running count as the card is
+ * seen. Tags are looked up by rank, so a card counts the same whether it was built for Blackjack or for Poker.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public enum CountingSystem
+{
+    /**
+     * High-Low: 2–6 count +1, 7–9 count 0, tens and Aces count -1. Balanced.
+     */
+    HI_LO("Hi-Lo", new int[] { 1, 1, 1, 1, 1, 0, 0, 0, -1, -1, -1, -1, -1 }, true),
+
+    /**
+     * Knock-Out: as Hi-Lo, but 7s count +1 too. Unbalanced, so a full shoe sums to +4 per deck; the running count
+     * starts at 4 - 4 × decks to end at +4.
+     */
+    KO("KO", new int[] { 1, 1, 1, 1, 1, 1, 0, 0, -1, -1, -1, -1, -1 }, false),
+
+    /**
+     * Omega II: 2, 3 and 7 count +1, 4–6 count +2, 8 and Aces count 0, 9s count -1 and tens count -2. Balanced.
+     */
+    OMEGA_II("Omega II", new int[] { 1, 1, 2, 2, 2, 1, 0, -1, -2, -2, -2, -2, 0 }, true);
+
+    private final String displayName;
+    private final int[] tags;
+    private final boolean balanced;
+
+    CountingSystem(String displayName, int[] tags, boolean balanced)
+    {
+        this.displayName = displayName;
+        this.tags = tags;
+        this.balanced = balanced;
+    }
+
+    /**
+     * Returns the tag added to the running count when a card of the given rank is seen.
+     *
+     * @param rank The card's rank, from 2 (Two) to 14 (Ace).
+     * @return The rank's tag.
+     */
+    public int tag(int rank)
+    {
+        return tags[rank - 2];
+    }
+
+    /**
+     * Checks if the tags of a full deck sum to zero.
+     *
+     * @return true if the system is balanced, false otherwise.
+     */
+    public boolean isBalanced()
+    {
+        return balanced;
+    }
+
+    /**
+     * Returns the running count of a freshly shuffled shoe: 0 for a balanced system.
+     *
+     * @param decks The number of decks in the shoe.
+     * @return The initial running count.
+     */
+    public int initialCount(int decks)
+    {
+        return balanced ? 0 : 4 - 4 * decks;
+    }
+
+    @Override
+    public String toString()
+    {
+        return displayName;
+    }
+}
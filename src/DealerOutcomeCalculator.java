@@ -0,0 +1,383 @@
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Works out how the dealer's hand will end from the exact cards left in the shoe: the chances of finishing on each
+ * total from 17 to 21, of busting, and of having a Blackjack, given the dealer's up card. The dealer draws below 17 and
+ * stays on every 17, as in BlackJackTable.
+ *
+ * The answer comes from a recursion over every card the dealer could draw next, weighted by how many of that card are
+ * left. Within a query the recursion is memoized on the cards drawn so far, packed into a long with 4 bits per value,
+ * in an open-addressed table that is reused from one query to the next, so a query allocates nothing but its answer.
+ * Answers are cached by composition, packed into a long with one count per value, in a cache that drops the least
+ * recently used compositions once it is full, so asking about the same shoe again is a single lookup.
+ *
+ * A calculator is not safe for use by several threads at once; give each thread its own.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class DealerOutcomeCalculator
+{
+    /**
+     * Where the chance of busting is kept in a distribution. Totals 17–21 are kept at positions 0–4.
+     */
+    public static final int BUST = 5;
+
+    /**
+     * Where the chance of a dealer Blackjack is kept in a distribution.
+     */
+    public static final int BLACKJACK = 6;
+
+    /**
+     * The length of a distribution.
+     */
+    public static final int OUTCOMES = 7;
+
+    /**
+     * The number of compositions cached when no size is given.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 65536;
+
+    // Each value's count takes 6 bits of a composition, except tens, which take 8 to hold up to 8 decks' worth
+    private static final int[] SHIFT = { 0, 6, 12, 18, 24, 30, 36, 42, 48, 56 };
+    private static final int[] LIMIT = { 63, 63, 63, 63, 63, 63, 63, 63, 255, 63 };
+
+    // A dealer hand is at most a few thousand distinct draws deep, so the memo never fills past a quarter
+    private static final int MEMO_BITS = 13;
+    private static final int MEMO_SIZE = 1 << MEMO_BITS;
+
+    // What happens after the shoe runs out, when the dealer would reshuffle: infinite-deck chances from each state
+    private static final double[][] FRESH_SHOE = new double[BlackJackHandState.STATE_COUNT][];
+
+    private final Map<Long, double[][]> cache;
+
+    private final long[] memoKeys = new long[MEMO_SIZE];
+    private final int[] memoQueries = new int[MEMO_SIZE];
+    private final double[] memoValues = new double[MEMO_SIZE * OUTCOMES];
+    private final int[] counts = new int[12];
+    private int query;
+    private int size;
+
+    static
+    {
+        for (int state = 0; state < FRESH_SHOE.length; state++)
+        {
+            freshShoe(state);
+        }
+    }
+
+    /**
+     * Constructs a calculator with the default cache size.
+     */
+    public DealerOutcomeCalculator()
+    {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Constructs a calculator that caches results for up to the given number of compositions.
+     *
+     * @param cacheSize The most compositions to keep results for.
+     * @throws IllegalArgumentException if the cache size is not positive.
+     */
+    public DealerOutcomeCalculator(int cacheSize)
+    {
+        if (cacheSize <= 0)
+        {
+            throw new IllegalArgumentException("The cache must hold at least one composition");
+        }
+
+        cache = new LinkedHashMap<>(Math.min(cacheSize, DEFAULT_CACHE_SIZE), 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, double[][]> eldest)
+            {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the distribution of the dealer's final hand.
+     *
+     * @param composition The number of cards of each Blackjack value left, indexed by value: positions 2–11 are read.
+     *                    The dealer's hole card, if it has been dealt face down, counts as left.
+     * @param upCardValue The Blackjack value of the dealer's up card, from 2 to 11.
+     * @return A new array of OUTCOMES chances: totals 17–21, then BUST, then BLACKJACK.
+     * @throws IllegalArgumentException if the composition is empty or holds more than 8 decks' worth of a value, or
+     *                                  the up card's value is outside 2–11.
+     */
+    public double[] distribution(int[] composition, int upCardValue)
+    {
+        long packed = 0;
+        int cards = 0;
+
+        if (upCardValue < 2 || upCardValue > 11)
+        {
+            throw new IllegalArgumentException("An up card can't be worth " + upCardValue);
+        }
+
+        for (int value = 2; value <= 11; value++)
+        {
+            int count = composition[value];
+
+            if (count < 0 || count > LIMIT[value - 2])
+            {
+                throw new IllegalArgumentException("There can't be " + count + " cards worth " + value + " in a shoe");
+            }
+
+            packed += (long) count << SHIFT[value - 2];
+            cards += count;
+        }
+
+        if (cards == 0)
+        {
+            throw new IllegalArgumentException("The shoe must hold at least one card");
+        }
+
+        double[][] byUpCard = cache.get(packed);
+
+        if (byUpCard == null)
+        {
+            byUpCard = new double[10][];
+            cache.put(packed, byUpCard);
+        }
+
+        if (byUpCard[upCardValue - 2] == null)
+        {
+            System.arraycopy(composition, 2, counts, 2, 10);
+            size = cards;
+
+            // Tag this query's memo entries, clearing the tags on the rare wrap around
+            if (++query == 0)
+            {
+                Arrays.fill(memoQueries, 0);
+                query = 1;
+            }
+
+            int slot = from(0, 0, BlackJackHandState.next(BlackJackHandState.EMPTY, upCardValue));
+
+            byUpCard[upCardValue - 2] = Arrays.copyOfRange(memoValues, slot * OUTCOMES, (slot + 1) * OUTCOMES);
+        }
+
+        return byUpCard[upCardValue - 2].clone();
+    }
+
+    /**
+     * Returns the distribution of the dealer's final hand as the player sees the table: the shoe's undealt cards and
+     * the dealer's face-down cards are unknown, and the dealer's first face-up card is the up card.
+     *
+     * @param dealer The dealer, holding an up card and a hole card.
+     * @return A new array of OUTCOMES chances: totals 17–21, then BUST, then BLACKJACK.
+     * @throws IllegalStateException if the dealer has no face-up card.
+     */
+    public double[] distribution(BlackJackDealer dealer)
+    {
+        int[] composition = new int[12];
+        Card upCard = unknownCards(dealer, composition);
+
+        if (upCard == null)
+        {
+            throw new IllegalStateException("The dealer has no face-up card");
+        }
+
+        return distribution(composition, upCard.getValue());
+    }
+
+    /**
+     * Counts the cards a player can't see, by value: the shoe's undealt cards and the dealer's face-down cards.
+     *
+     * @param dealer      The dealer.
+     * @param composition Where to add the counts, indexed by value.
+     * @return The dealer's first face-up card, or null if there isn't one.
+     */
+    static Card unknownCards(BlackJackDealer dealer, int[] composition)
+    {
+        List<Card> shoe = dealer.getShoe().getCards();
+        Card upCard = null;
+
+        for (int i = 0; i < shoe.size(); i++)
+        {
+            composition[shoe.get(i).getValue()]++;
+        }
+
+        for (int i = 0; i < dealer.getHand().size(); i++)
+        {
+            if (!dealer.isCardVisible(i))
+            {
+                composition[dealer.getHand().get(i).getValue()]++;
+            }
+            else if (upCard == null)
+            {
+                upCard = dealer.getHand().get(i);
+            }
+        }
+
+        return upCard;
+    }
+
+    /**
+     * Counts Blackjack-valued cards by value.
+     *
+     * @param cards The cards.
+     * @return The counts, indexed by value: positions 2–11 are filled.
+     */
+    public static int[] composition(List<Card> cards)
+    {
+        int[] composition = new int[12];
+
+        for (int i = 0; i < cards.size(); i++)
+        {
+            composition[cards.get(i).getValue()]++;
+        }
+
+        return composition;
+    }
+
+    /**
+     * Rescales a distribution to the chances once the dealer is known not to have a Blackjack, as when the player
+     * gets to act.
+     *
+     * @param distribution A distribution returned by this class.
+     * @return A new distribution whose BLACKJACK chance is 0.
+     */
+    public static double[] withoutBlackJack(double[] distribution)
+    {
+        double[] result = new double[OUTCOMES];
+        double rest = 1 - distribution[BLACKJACK];
+
+        for (int i = 0; i < BLACKJACK; i++)
+        {
+            result[i] = (rest > 0) ? distribution[i] / rest : 0;
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the number of compositions with cached results.
+     *
+     * @return The cache's current size.
+     */
+    public int getCacheSize()
+    {
+        return cache.size();
+    }
+
+    /**
+     * Works out the chances from a non-final dealer hand after the given cards have been drawn, returning the memo slot
+     * holding them.
+     */
+    private int from(long drawn, int drawnCount, int state)
+    {
+        int slot = (int) ((drawn * 0x9E3779B97F4A7C15L) >>> (64 - MEMO_BITS));
+
+        while (memoQueries[slot] == query)
+        {
+            if (memoKeys[slot] == drawn)
+            {
+                return slot;
+            }
+            slot = (slot + 1) & (MEMO_SIZE - 1);
+        }
+
+        // Claim the slot before recursing; every card drawn from here leads to a different key, so it can't be revisited
+        int base = slot * OUTCOMES;
+        int left = size - drawnCount;
+
+        memoQueries[slot] = query;
+        memoKeys[slot] = drawn;
+        Arrays.fill(memoValues, base, base + OUTCOMES, 0);
+
+        for (int value = 2; value <= 11; value++)
+        {
+            int count = (left == 0) ? 0 : counts[value] - (int) ((drawn >>> (4 * (value - 2))) & 15);
+
+            if (count == 0)
+            {
+                continue;
+            }
+
+            int next = BlackJackHandState.next(state, value);
+            double chance = (double) count / left;
+            int outcome = finalOutcome(next);
+
+            if (outcome >= 0)
+            {
+                memoValues[base + outcome] += chance;
+            }
+            else
+            {
+                int child = from(drawn + (1L << (4 * (value - 2))), drawnCount + 1, next) * OUTCOMES;
+
+                for (int i = 0; i < OUTCOMES; i++)
+                {
+                    memoValues[base + i] += chance * memoValues[child + i];
+                }
+            }
+        }
+
+        if (left == 0)
+        {
+            System.arraycopy(FRESH_SHOE[state], 0, memoValues, base, OUTCOMES);
+        }
+
+        return slot;
+    }
+
+    /**
+     * Returns where a dealer hand that is done drawing is counted in a distribution, or -1 if the dealer draws again.
+     */
+    private static int finalOutcome(int state)
+    {
+        if (BlackJackHandState.isBust(state))
+        {
+            return BUST;
+        }
+        if (BlackJackHandState.isBlackJack(state))
+        {
+            return BLACKJACK;
+        }
+        if (BlackJackHandState.total(state) >= 17)
+        {
+            return BlackJackHandState.total(state) - 17;
+        }
+
+        return -1;
+    }
+
+    private static double[] freshShoe(int state)
+    {
+        if (FRESH_SHOE[state] != null)
+        {
+            return FRESH_SHOE[state];
+        }
+
+        double[] result = new double[OUTCOMES];
+        int outcome = finalOutcome(state);
+
+        if (outcome >= 0)
+        {
+            result[outcome] = 1;
+        }
+        else
+        {
+            for (int value = 2; value <= 11; value++)
+            {
+                double[] next = freshShoe(BlackJackHandState.next(state, value));
+                double chance = (value == 10) ? 4.0 / 13 : 1.0 / 13;
+
+                for (int i = 0; i < OUTCOMES; i++)
+                {
+                    result[i] += chance * next[i];
+                }
+            }
+        }
+
+        FRESH_SHOE[state] = result;
+        return result;
+    }
+}
@@ -1,10 +1,15 @@
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
 
 /**
  * Abstract class representing a standard playing card deck. Provides core functionality for managing a deck of cards,
  * such as dealing, setting, and retrieving cards. Subclasses must implement the buildDeck() method to populate
  * the deck with specific cards (e.g., Blackjack-specific cards).
  *
+ * The cards are kept in a fixed array with a cursor pointing at the top card. Dealing moves the cursor instead of
+ * removing the card, and shuffling gathers every card back and permutes the same array in place.
+ *
  * Used as a base class for game-specific decks.
  *
  * @author Tyler Lang
@@ -12,47 +17,86 @@ import java.util.ArrayList;
  */
 public abstract class Deck
 {
-    private ArrayList<Card> cards = new ArrayList<>();
+    private Card[] cards = new Card[0];
+    private int next;
+    private final RandomGenerator random;
 
     /**
-     * Constructs an empty deck. Subclasses should call buildDeck() to populate it.
+     * Constructs an empty deck that shuffles with a generator from RandomSource. Subclasses should call buildDeck() to
+     * populate it.
      */
     public Deck()
     {
+        this(RandomSource.next());
+    }
 
+    /**
+     * Constructs an empty deck that shuffles with the given generator. Subclasses should call buildDeck() to populate
+     * it.
+     *
+     * @param random The random number generator used for shuffling.
+     */
+    public Deck(RandomGenerator random)
+    {
+        this.random = random;
     }
 
     /**
-     * Retrieves the current list of cards in the deck.
+     * Constructs a deck holding the given cards and shuffles it with the given generator, for subclasses that know
+     * their cards before they are constructed and so needn't call anything overridable from their constructors.
      *
-     * @return An ArrayList of Card objects.
+     * @param random The random number generator used for shuffling.
+     * @param cards  The cards in the deck.
      */
-    public ArrayList<Card> getCards()
+    protected Deck(RandomGenerator random, List<Card> cards)
     {
-        return cards;
+        this.random = random;
+        this.cards = cards.toArray(new Card[0]);
+        permute();
     }
 
     /**
-     * Sets the internal list of cards in the deck.
+     * Retrieves the cards that have not been dealt yet, top card first. The list is a read-only view over the deck.
+     *
+     * @return A List of the remaining Card objects.
+     */
+    public List<Card> getCards()
+    {
+        return Arrays.asList(cards).subList(next, cards.length);
+    }
+
+    /**
+     * Sets the cards in the deck, top card first, and moves the cursor back to the top. The existing storage is reused
+     * when it is already the right size.
      *
      * @param cards The new list of cards to use.
      */
-    public void setCards(ArrayList<Card> cards)
+    public void setCards(List<Card> cards)
     {
-        this.cards = cards;
+        if (this.cards.length != cards.size())
+        {
+            this.cards = new Card[cards.size()];
+        }
+
+        for (int i = 0; i < this.cards.length; i++)
+        {
+            this.cards[i] = cards.get(i);
+        }
+
+        next = 0;
     }
 
     /**
-     * Deals (removes and returns) the top card from the deck.
+     * Deals the top card from the deck.
      * Returns null if the deck is empty.
      *
      * @return The top Card in the deck, or null if the deck is empty.
      */
     public Card deal()
     {
-        if (cardsLeftInDeck() != 0)
+        if (next < cards.length)
         {
-            return cards.remove(0);
+            return cards[next++];
         }
         else
         {
@@ -67,7 +111,29 @@ public abstract class Deck
      */
     public int cardsLeftInDeck()
     {
-        return cards.size();
+        return cards.length - next;
+    }
+
+    /**
+     * Gathers every dealt card back into the deck and shuffles the whole deck in place.
+     */
+    public void shuffle()
+    {
+        permute();
+    }
+
+    private void permute()
+    {
+        for (int i = cards.length - 1; i > 0; i--)
+        {
+            int j = random.nextInt(i + 1);
+            Card card = cards[i];
+
+            cards[i] = cards[j];
+            cards[j] = card;
+        }
+
+        next = 0;
     }
 
     /**
@@ -80,9 +146,9 @@ public abstract class Deck
     {
         StringBuilder allCards = new StringBuilder();
 
-        for (Card card : cards)
+        for (int i = next; i < cards.length; i++)
         {
-            allCards.append(card.toString()).append("\n");
+            allCards.append(cards[i].toString()).append("\n");
         }
 
         return allCards.toString();
@@ -94,4 +160,4 @@ public abstract class Deck
      */
     public abstract void buildDeck();
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,394 @@
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Works out the expected value of each of the player's actions, staying, hitting, doubling down and surrendering, for
+ * the hand in front of them and the cards still unseen. Where BasicStrategy plays every shoe as if it were full, the
+ * advisor weighs each card by how many of it are left, so its advice shifts as the shoe is dealt.
+ *
+ * Values follow BasicStrategy's rules and payouts, in units of the player's opening bet: the dealer has no Blackjack
+ * once the player acts, a surrender is worth -0.5 at any point, and a double down wins one bet but loses two. After a
+ * hit the player is assumed to go on playing perfectly.
+ *
+ * Everything the player's turn needs is worked out once per round, at the first decision, and reused for the rest of
+ * it: the dealer's chances, and the best value of every hand the player could draw to. A round is recognized by the
+ * dealer's up card and the cards that were unseen at the start of the player's turn, which hitting doesn't change, so
+ * no call is needed to start one. Later decisions in the round are a few array reads. The player's own draws are
+ * weighed by the cards left at the start of their turn.
+ *
+ * By default the dealer's chances come from the composition's proportions, without removing the dealer's own draws as
+ * they are made. That takes a microsecond or so per round and suits bots in long simulations. Given a
+ * DealerOutcomeCalculator, the advisor uses its exact, composition-dependent chances instead.
+ *
+ * An advisor keeps its round in reusable arrays and is not safe for use by several threads at once.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class ExpectedValueAdvisor
+{
+    private static final int STATES = BlackJackHandState.STATE_COUNT;
+
+    // The dealer's final totals 17–21, then bust; the dealer has no Blackjack once the player acts
+    private static final int OUTCOMES = DealerOutcomeCalculator.BUST + 1;
+    private static final BlackJackAction[] ACTIONS = BlackJackAction.values();
+
+    // Every dealer hand of two or more cards that draws again, each after every hand it can draw to
+    private static final int[] DEALER_DRAWS;
+
+    static
+    {
+        boolean[] draws = new boolean[STATES];
+        boolean[] visited = new boolean[STATES];
+        int[] order = new int[STATES];
+        int count = 0;
+
+        for (int total = 4; total <= 16; total++)
+        {
+            draws[BlackJackHandState.hard(total)] = true;
+        }
+        for (int total = 12; total <= 16; total++)
+        {
+            draws[BlackJackHandState.soft(total)] = true;
+        }
+        for (int state = 0; state < STATES; state++)
+        {
+            count = orderDraws(state, draws, visited, order, count);
+        }
+
+        DEALER_DRAWS = Arrays.copyOf(order, count);
+    }
+
+    private final DealerOutcomeCalculator calculator;
+
+    // The round being advised on: the cards unseen at the player's first decision, and the dealer's up card
+    private final int[] roundComposition = new int[12];
+    private int roundUpCard;
+
+    private final int[] unseen = new int[12];
+    private final int[] composition = new int[12];
+    private final double[] chances = new double[12];
+    private final double[] dealer = new double[OUTCOMES];
+    private final double[] dealerFrom = new double[STATES * OUTCOMES];
+    private final double[] winChance = new double[22];
+    private final double[] lossChance = new double[22];
+    private final double[] best = new double[STATES];
+    private final boolean[] bestKnown = new boolean[STATES];
+
+    /**
+     * Constructs an advisor that takes the dealer's chances from the proportions of the cards left.
+     */
+    public ExpectedValueAdvisor()
+    {
+        this(null);
+    }
+
+    /**
+     * Constructs an advisor that takes the dealer's exact chances from a calculator.
+     *
+     * @param calculator The calculator, or null to use the proportions of the cards left.
+     */
+    public ExpectedValueAdvisor(DealerOutcomeCalculator calculator)
+    {
+        this.calculator = calculator;
+
+        // A dealer hand that has stopped drawing always ends as it is
+        for (int state = 0; state < STATES; state++)
+        {
+            if (BlackJackHandState.isBust(state))
+            {
+                dealerFrom[state * OUTCOMES + DealerOutcomeCalculator.BUST] = 1;
+            }
+            else if (!BlackJackHandState.isBlackJack(state) && BlackJackHandState.total(state) >= 17)
+            {
+                dealerFrom[state * OUTCOMES + BlackJackHandState.total(state) - 17] = 1;
+            }
+        }
+    }
+
+    /**
+     * Works out the expected value of every action.
+     *
+     * @param hand        The player's cards, in the order they were dealt.
+     * @param upCardValue The Blackjack value of the dealer's up card, from 2 to 11.
+     * @param unseen      The number of cards of each Blackjack value the player can't see, indexed by value: the
+     *                    shoe's undealt cards and the dealer's hole card.
+     * @param values      Where to put the values, indexed by BlackJackAction ordinal.
+     * @throws IllegalArgumentException if no cards are unseen.
+     */
+    public void expectedValues(List<Card> hand, int upCardValue, int[] unseen, double[] values)
+    {
+        System.arraycopy(unseen, 0, composition, 0, composition.length);
+
+        // Cards the player has drawn this turn were unseen when it started
+        for (int i = 2; i < hand.size(); i++)
+        {
+            composition[hand.get(i).getValue()]++;
+        }
+
+        if (upCardValue != roundUpCard || !Arrays.equals(composition, roundComposition))
+        {
+            startRound(upCardValue);
+        }
+
+        int state = BasicStrategy.stateOf(hand);
+
+        values[BlackJackAction.STAY.ordinal()] = stayValue(state);
+        values[BlackJackAction.HIT.ordinal()] = hitValue(state);
+        values[BlackJackAction.SURRENDER.ordinal()] = -0.5;
+        values[BlackJackAction.DOUBLE_DOWN.ordinal()] = doubleDownValue(state);
+    }
+
+    /**
+     * Works out the expected value of every action as the player sees the table.
+     *
+     * @param player The player.
+     * @param dealer The dealer, holding an up card and a hole card.
+     * @param values Where to put the values, indexed by BlackJackAction ordinal.
+     * @throws IllegalStateException if the dealer has no face-up card.
+     */
+    public void expectedValues(BlackJackPlayer player, BlackJackDealer dealer, double[] values)
+    {
+        Arrays.fill(unseen, 0);
+        Card upCard = DealerOutcomeCalculator.unknownCards(dealer, unseen);
+
+        if (upCard == null)
+        {
+            throw new IllegalStateException("The dealer has no face-up card");
+        }
+
+        expectedValues(player.getHand(), upCard.getValue(), unseen, values);
+    }
+
+    /**
+     * Returns the action with the highest expected value.
+     *
+     * @param values        Expected values indexed by BlackJackAction ordinal.
+     * @param canDoubleDown Whether doubling down is allowed.
+     * @return The best action, preferring the earlier of two equal ones in BlackJackAction order.
+     */
+    public static BlackJackAction bestAction(double[] values, boolean canDoubleDown)
+    {
+        BlackJackAction best = BlackJackAction.STAY;
+
+        for (BlackJackAction action : ACTIONS)
+        {
+            if ((canDoubleDown || action != BlackJackAction.DOUBLE_DOWN)
+                && values[action.ordinal()] > values[best.ordinal()])
+            {
+                best = action;
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Returns a strategy that takes the action with the highest expected value, counting the cards the given dealer
+     * has left to deal.
+     *
+     * @param dealer The dealer whose shoe the cards come from.
+     * @return The strategy.
+     */
+    public BlackJackStrategy strategy(BlackJackDealer dealer)
+    {
+        double[] values = new double[ACTIONS.length];
+
+        return (player, dealerUpCard, canDoubleDown) ->
+        {
+            expectedValues(player, dealer, values);
+            return bestAction(values, canDoubleDown);
+        };
+    }
+
+    private void startRound(int upCardValue)
+    {
+        int size = 0;
+
+        for (int value = 2; value <= 11; value++)
+        {
+            size += composition[value];
+        }
+
+        if (size == 0)
+        {
+            throw new IllegalArgumentException("At least one card must be unseen");
+        }
+
+        System.arraycopy(composition, 0, roundComposition, 0, composition.length);
+        roundUpCard = upCardValue;
+
+        for (int value = 2; value <= 11; value++)
+        {
+            chances[value] = (double) composition[value] / size;
+        }
+
+        if (calculator != null)
+        {
+            double[] exact = DealerOutcomeCalculator.withoutBlackJack(calculator.distribution(composition, upCardValue));
+
+            System.arraycopy(exact, 0, dealer, 0, OUTCOMES);
+        }
+        else
+        {
+            dealerFinal(upCardValue);
+        }
+
+        // Staying wins if the dealer busts or finishes below the player's total, and loses if they finish above it
+        double below = dealer[DealerOutcomeCalculator.BUST];
+        double above = 0;
+
+        for (int total = 17; total <= 21; total++)
+        {
+            above += dealer[total - 17];
+        }
+
+        for (int total = 0; total <= 21; total++)
+        {
+            if (total > 17)
+            {
+                below += dealer[total - 18];
+            }
+            if (total >= 17)
+            {
+                above -= dealer[total - 17];
+            }
+
+            winChance[total] = below;
+            lossChance[total] = above;
+        }
+
+        Arrays.fill(bestKnown, false);
+    }
+
+    /**
+     * Works out the dealer's chances from the proportions of the cards left, given they don't have a Blackjack.
+     */
+    private void dealerFinal(int upCardValue)
+    {
+        for (int state : DEALER_DRAWS)
+        {
+            int base = state * OUTCOMES;
+
+            Arrays.fill(dealerFrom, base, base + OUTCOMES, 0);
+
+            for (int value = 2; value <= 11; value++)
+            {
+                double chance = chances[value];
+
+                if (chance > 0)
+                {
+                    int from = BlackJackHandState.next(state, value) * OUTCOMES;
+
+                    for (int i = 0; i < OUTCOMES; i++)
+                    {
+                        dealerFrom[base + i] += chance * dealerFrom[from + i];
+                    }
+                }
+            }
+        }
+
+        int first = BlackJackHandState.next(BlackJackHandState.EMPTY, upCardValue);
+        double total = 0;
+
+        Arrays.fill(dealer, 0);
+
+        for (int hole = 2; hole <= 11; hole++)
+        {
+            int state = BlackJackHandState.next(first, hole);
+
+            if (chances[hole] > 0 && !BlackJackHandState.isBlackJack(state))
+            {
+                for (int i = 0; i < OUTCOMES; i++)
+                {
+                    dealer[i] += chances[hole] * dealerFrom[state * OUTCOMES + i];
+                }
+                total += chances[hole];
+            }
+        }
+
+        for (int i = 0; i < OUTCOMES && total > 0; i++)
+        {
+            dealer[i] /= total;
+        }
+    }
+
+    /**
+     * Adds a drawing dealer hand to the order after every drawing hand it leads to, returning the new length.
+     */
+    private static int orderDraws(int state, boolean[] draws, boolean[] visited, int[] order, int count)
+    {
+        if (!draws[state] || visited[state])
+        {
+            return count;
+        }
+
+        visited[state] = true;
+
+        for (int value = 2; value <= 11; value++)
+        {
+            count = orderDraws(BlackJackHandState.next(state, value), draws, visited, order, count);
+        }
+
+        order[count] = state;
+        return count + 1;
+    }
+
+    private double stayValue(int state)
+    {
+        if (BlackJackHandState.isBust(state))
+        {
+            return -1;
+        }
+
+        return winChance[BlackJackHandState.total(state)] - lossChance[BlackJackHandState.total(state)];
+    }
+
+    private double hitValue(int state)
+    {
+        double value = 0;
+
+        for (int card = 2; card <= 11; card++)
+        {
+            if (chances[card] > 0)
+            {
+                int next = BlackJackHandState.next(state, card);
+
+                value += chances[card] * (BlackJackHandState.isBust(next) ? -1 : bestValue(next));
+            }
+        }
+
+        return value;
+    }
+
+    private double doubleDownValue(int state)
+    {
+        double value = 0;
+
+        for (int card = 2; card <= 11; card++)
+        {
+            if (chances[card] > 0)
+            {
+                int next = BlackJackHandState.next(state, card);
+
+                value += chances[card] * (BlackJackHandState.isBust(next)
+                                          ? -2
+                                          : winChance[BlackJackHandState.total(next)]
+                                            - 2 * lossChance[BlackJackHandState.total(next)]);
+            }
+        }
+
+        return value;
+    }
+
+    private double bestValue(int state)
+    {
+        if (!bestKnown[state])
+        {
+            best[state] = Math.max(-0.5, Math.max(stayValue(state), hitValue(state)));
+            bestKnown[state] = true;
+        }
+
+        return best[state];
+    }
+}
@@ -0,0 +1,254 @@
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The player's side of a game: where their lines of input come from and where the game's output goes.
+ *
+ * Input is split into lines by hand over one reusable char buffer, rather than by Scanner's regular expressions, and a
+ * line only costs the String it returns. Output is buffered and only written out by flush(), which a game calls once
+ * each time it stops to wait for the player, so a round's dozens of println() calls reach the terminal or socket as
+ * one write. A piped or scripted session then runs at memory speed, and a game can be played in a test from a
+ * StringReader without touching System.in.
+ *
+ * Error messages go to a separate stream, which at the console is System.err. Before anything is written to it, the
+ * buffered output is flushed, so errors still appear in order with the rest of the game.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class GameIO
+{
+    /**
+     * The size of the input and output buffers, in chars and bytes respectively.
+     */
+    public static final int BUFFER_SIZE = 8192;
+
+    private final Reader in;
+    private final PrintStream out;
+    private final PrintStream err;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder longLine = new StringBuilder();
+    private int position;
+    private int limit;
+    private boolean skipLineFeed;
+
+    /**
+     * Constructs the input and output for a game played at the console: System.in, and System.out and System.err in
+     * the platform's encoding.
+     *
+     * @return The console's input and output.
+     */
+    public static GameIO console()
+    {
+        PrintStream out = new PrintStream(new BufferedOutputStream(System.out, BUFFER_SIZE), false,
+                                          System.out.charset());
+        PrintStream err = new PrintStream(new FlushingOutputStream(out, System.err), true, System.err.charset());
+
+        return new GameIO(new InputStreamReader(System.in, Charset.defaultCharset()), out, err);
+    }
+
+    /**
+     * Constructs the input and output for a game played over a pair of streams, e.g. those of a network connection,
+     * as UTF-8 text. Error messages are written to the same stream as the rest of the game.
+     *
+     * @param in  The stream the player's lines are read from.
+     * @param out The stream the game is written to.
+     */
+    public GameIO(InputStream in, OutputStream out)
+    {
+        this(new InputStreamReader(in, StandardCharsets.UTF_8),
+             new PrintStream(new BufferedOutputStream(out, BUFFER_SIZE), false, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Constructs the input and output for a game that reads from the given reader and writes to the given stream.
+     * Error messages are written to the same stream as the rest of the game.
+     *
+     * @param in  Where the player's lines are read from.
+     * @param out The stream the game is written to. It is flushed by flush().
+     */
+    public GameIO(Reader in, PrintStream out)
+    {
+        this(in, out, out);
+    }
+
+    /**
+     * Constructs the input and output for a game that reads from the given reader and writes to the given streams.
+     *
+     * @param in  Where the player's lines are read from.
+     * @param out The stream the game is written to. It is flushed by flush().
+     * @param err The stream error messages are written to.
+     * @throws IllegalArgumentException if any of the arguments is null.
+     */
+    public GameIO(Reader in, PrintStream out, PrintStream err)
+    {
+        if (in == null || out == null || err == null)
+        {
+            throw new IllegalArgumentException("Input and output streams are required");
+        }
+
+        this.in = in;
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Reads the player's next line, without its line terminator ("\n", "\r\n" or "\r"). A last line without a
+     * terminator is still returned. Blocks only while no complete line has been received.
+     *
+     * @return The line, or null if the input has ended.
+     * @throws IOException if the input cannot be read.
+     */
+    public String readLine() throws IOException
+    {
+        longLine.setLength(0);
+        boolean partial = false;
+
+        while (true)
+        {
+            if (position == limit)
+            {
+                if (!fill())
+                {
+                    return partial ? longLine.toString() : null;
+                }
+            }
+
+            if (skipLineFeed)
+            {
+                skipLineFeed = false;
+
+                if (buffer[position] == '\n')
+                {
+                    position++;
+                    continue;
+                }
+            }
+
+            int start = position;
+
+            while (position < limit)
+            {
+                char c = buffer[position];
+
+                if (c == '\n' || c == '\r')
+                {
+                    String line = partial ? longLine.append(buffer, start, position - start).toString()
+                                          : new String(buffer, start, position - start);
+
+                    position++;
+                    skipLineFeed = c == '\r';
+                    return line;
+                }
+
+                position++;
+            }
+
+            // The line runs past the end of the buffer, so keep what there is and read more
+            longLine.append(buffer, start, position - start);
+            partial = true;
+        }
+    }
+
+    /**
+     * Returns the stream the game is written to. Nothing written to it is guaranteed to reach the player before
+     * flush().
+     *
+     * @return The output stream.
+     */
+    public PrintStream getOut()
+    {
+        return out;
+    }
+
+    /**
+     * Returns the stream error messages are written to.
+     *
+     * @return The error stream.
+     */
+    public PrintStream getErr()
+    {
+        return err;
+    }
+
+    /**
+     * Sends everything written so far to the player. Called whenever the game waits for input.
+     */
+    public void flush()
+    {
+        out.flush();
+
+        if (err != out)
+        {
+            err.flush();
+        }
+    }
+
+    /**
+     * Refills the input buffer, waiting for at least one char.
+     *
+     * @return true if chars were read, false if the input has ended.
+     */
+    private boolean fill() throws IOException
+    {
+        int read;
+
+        do
+        {
+            read = in.read(buffer, 0, buffer.length);
+        }
+        while (read == 0);
+
+        if (read < 0)
+        {
+            return false;
+        }
+
+        position = 0;
+        limit = read;
+        return true;
+    }
+
+    /**
+     * Writes through to another stream, but flushes the game's buffered output first, so that an error message never
+     * overtakes the output that led to it.
+     */
+    private static class FlushingOutputStream extends OutputStream
+    {
+        private final PrintStream first;
+        private final OutputStream target;
+
+        private FlushingOutputStream(PrintStream first, OutputStream target)
+        {
+            this.first = first;
+            this.target = target;
+        }
+
+        @Override
+        public void write(int b) throws IOException
+        {
+            first.flush();
+            target.write(b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException
+        {
+            first.flush();
+            target.write(bytes, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException
+        {
+            target.flush();
+        }
+    }
+}
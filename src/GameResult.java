@@ -0,0 +1,141 @@
+/**
+ * How a game of cards ended: why, after how many rounds, with what record, and with how much money on each side. A
+ * CardGame returns one from play() and holds on to it until it is reset, so whoever runs many games in one process
+ * can collect results without watching the game's output.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public final class GameResult
+{
+    /**
+     * The reasons a game ends.
+     */
+    public enum Ending
+    {
+        /**
+         * The player ran out of money.
+         */
+        PLAYER_OUT_OF_MONEY,
+
+        /**
+         * The dealer ran out of money.
+         */
+        DEALER_OUT_OF_MONEY,
+
+        /**
+         * The player chose not to play another round.
+         */
+        PLAYER_LEFT,
+
+        /**
+         * The player's input ended in the middle of the game, e.g. because they disconnected.
+         */
+        INPUT_ENDED
+    }
+
+    private final Ending ending;
+    private final int rounds;
+    private final int playerWins;
+    private final int playerLosses;
+    private final int playerStash;
+    private final int dealerStash;
+
+    /**
+     * Constructs the result of a game.
+     *
+     * @param ending       Why the game ended.
+     * @param rounds       The number of rounds played to the end.
+     * @param playerWins   The number of rounds the player won.
+     * @param playerLosses The number of rounds the player lost or surrendered.
+     * @param playerStash  The player's money at the end.
+     * @param dealerStash  The dealer's money at the end.
+     */
+    public GameResult(Ending ending, int rounds, int playerWins, int playerLosses, int playerStash, int dealerStash)
+    {
+        this.ending = ending;
+        this.rounds = rounds;
+        this.playerWins = playerWins;
+        this.playerLosses = playerLosses;
+        this.playerStash = playerStash;
+        this.dealerStash = dealerStash;
+    }
+
+    /**
+     * Returns why the game ended.
+     *
+     * @return The ending.
+     */
+    public Ending getEnding()
+    {
+        return ending;
+    }
+
+    /**
+     * Returns the number of rounds played to the end.
+     *
+     * @return The number of rounds.
+     */
+    public int getRounds()
+    {
+        return rounds;
+    }
+
+    /**
+     * Returns the number of rounds the player won.
+     *
+     * @return The number of wins.
+     */
+    public int getPlayerWins()
+    {
+        return playerWins;
+    }
+
+    /**
+     * Returns the number of rounds the player lost or surrendered.
+     *
+     * @return The number of losses.
+     */
+    public int getPlayerLosses()
+    {
+        return playerLosses;
+    }
+
+    /**
+     * Returns the player's money at the end of the game.
+     *
+     * @return The player's stash.
+     */
+    public int getPlayerStash()
+    {
+        return playerStash;
+    }
+
+    /**
+     * Returns the dealer's money at the end of the game.
+     *
+     * @return The dealer's stash.
+     */
+    public int getDealerStash()
+    {
+        return dealerStash;
+    }
+
+    /**
+     * Returns the status a program that only plays this game should exit with: 0 when the game was played until
+     * someone ran out of money, and 1 when it was cut short.
+     *
+     * @return The exit status.
+     */
+    public int getExitStatus()
+    {
+        return (ending == Ending.PLAYER_OUT_OF_MONEY || ending == Ending.DEALER_OUT_OF_MONEY) ? 0 : 1;
+    }
+
+    @Override
+    public String toString()
+    {
+        return ending + " after " + rounds + " rounds (" + playerWins + " won, " + playerLosses + " lost): player $"
+               + playerStash + ", dealer $" + dealerStash;
+    }
+}
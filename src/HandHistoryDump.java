@@ -0,0 +1,44 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Prints a hand-history journal as text, one round per line, e.g.
+ *
+ * <pre>
+ * java HandHistoryDump hands/
+ * </pre>
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class HandHistoryDump
+{
+    public static void main(String[] args) throws IOException
+    {
+        if (args.length != 1 || !Files.isDirectory(Path.of(args[0])))
+        {
+            System.err.println("Usage: java HandHistoryDump <journal directory>");
+            System.exit(2);
+        }
+
+        HandHistoryRecord record = new HandHistoryRecord();
+        PrintWriter out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8)));
+
+        try (HandHistoryReader reader = new HandHistoryReader(Path.of(args[0])))
+        {
+            while (reader.next(record))
+            {
+                out.println(record);
+            }
+        }
+        finally
+        {
+            out.flush();
+        }
+    }
+}
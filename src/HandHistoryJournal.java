@@ -0,0 +1,269 @@
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An append-only binary journal of every round played, for auditing. Rounds are written as fixed-layout records into
+ * segment files of a set size, each memory-mapped in full when it is created, so appending a round is a handful of
+ * writes into mapped memory with no system call and no allocation. When a segment can't fit another record, the next
+ * one is created. Reopening a journal carries on after its last record, reading only the last segment.
+ *
+ * Each segment starts with a 24-byte header: the magic number 0x424A484A ("BJHJ"), the format version and header
+ * size as shorts, the segment's number, a reserved int, and as a long the highest table id recorded in this segment or
+ * any before it, which is kept up to date as rounds are appended. Version 1 records follow, all little-endian:
+ *
+ * <pre>
+ * offset size
+ *   0     2   record length in bytes, including this field (0 marks the end of the segment's records)
+ *   2     1   record type, 1 for a round
+ *   3     1   flags: bit 0 set if the player doubled down
+ *   4     8   table id
+ *  12     4   round number at the table
+ *  16     8   time the round ended, in milliseconds since the epoch
+ *  24     4   player's final bet
+ *  28     4   pot
+ *  32     4   player's stash after the round
+ *  36     4   dealer's stash after the round
+ *  40     1   BlackJackOutcome ordinal
+ *  41     1   number of cards
+ *  42     1   number of actions
+ *  43     1   reserved
+ *  44     n   cards in dealing order (see HandHistoryRecord)
+ *  44+n   m   BlackJackAction ordinals
+ * </pre>
+ *
+ * Several tables can share one journal; append() is synchronized, and each table gets its own id from nextTableId().
+ * Read a journal back with HandHistoryReader.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class HandHistoryJournal implements AutoCloseable
+{
+    /**
+     * The size of a new segment when none is given: 64 MiB, or around 1.2 million typical rounds.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+
+    static final int MAGIC = 0x424A484A;
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 24;
+    static final int HIGHEST_TABLE_ID = 16;
+    static final int FIXED_SIZE = 44;
+    static final byte ROUND_RECORD = 1;
+    static final int MAX_RECORD_SIZE = FIXED_SIZE + HandHistoryRecord.MAX_CARDS + HandHistoryRecord.MAX_ACTIONS;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final AtomicLong tableIds = new AtomicLong();
+    private MappedByteBuffer segment;
+    private int segmentNumber;
+    private long highestTableId;
+
+    /**
+     * Opens the journal in the given directory with segments of the default size, creating it if needed.
+     *
+     * @param directory The directory holding the segment files.
+     * @throws IOException if the journal cannot be opened.
+     */
+    public HandHistoryJournal(Path directory) throws IOException
+    {
+        this(directory, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Opens the journal in the given directory, creating it if needed. Existing segments keep their own size.
+     *
+     * @param directory   The directory holding the segment files.
+     * @param segmentSize The size of each new segment file in bytes.
+     * @throws IOException if the journal cannot be opened.
+     * @throws IllegalArgumentException if a segment couldn't hold even one record.
+     */
+    public HandHistoryJournal(Path directory, int segmentSize) throws IOException
+    {
+        if (segmentSize < HEADER_SIZE + MAX_RECORD_SIZE + 2)
+        {
+            throw new IllegalArgumentException("A journal segment must hold at least one record");
+        }
+
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+
+        Files.createDirectories(directory);
+
+        int last = -1;
+
+        while (Files.exists(segmentPath(directory, last + 1)))
+        {
+            last++;
+        }
+
+        if (last < 0)
+        {
+            openSegment(0);
+        }
+        else
+        {
+            reopenSegment(last);
+            tableIds.set(highestTableId);
+        }
+    }
+
+    /**
+     * Returns a new id for a table writing to this journal. Ids carry on from the tables in the journal so far.
+     *
+     * @return A table id not used before in this journal.
+     */
+    public long nextTableId()
+    {
+        return tableIds.incrementAndGet();
+    }
+
+    /**
+     * Appends a round to the journal.
+     *
+     * @param record The round.
+     * @throws IOException if a new segment is needed and cannot be created.
+     */
+    public synchronized void append(HandHistoryRecord record) throws IOException
+    {
+        int length = FIXED_SIZE + record.getCardCount() + record.getActionCount();
+
+        // Leave room for the zero length that ends the segment's records
+        if (segment.remaining() < length + 2)
+        {
+            openSegment(segmentNumber + 1);
+        }
+
+        // The header is updated before the record is written, so it never lags behind a record a reader could see
+        if (record.getTableId() > highestTableId)
+        {
+            highestTableId = record.getTableId();
+            segment.putLong(HIGHEST_TABLE_ID, highestTableId);
+        }
+
+        int start = segment.position();
+
+        segment.put(start + 2, ROUND_RECORD);
+        segment.put(start + 3, (byte) (record.isDoubled() ? 1 : 0));
+        segment.putLong(start + 4, record.getTableId());
+        segment.putInt(start + 12, record.getRound());
+        segment.putLong(start + 16, record.getTimestamp());
+        segment.putInt(start + 24, record.getBet());
+        segment.putInt(start + 28, record.getPot());
+        segment.putInt(start + 32, record.getPlayerStash());
+        segment.putInt(start + 36, record.getDealerStash());
+        segment.put(start + 40, (byte) record.getOutcome().ordinal());
+        segment.put(start + 41, (byte) record.getCardCount());
+        segment.put(start + 42, (byte) record.getActionCount());
+        segment.put(start + 43, (byte) 0);
+        segment.put(start + FIXED_SIZE, record.cardBytes(), 0, record.getCardCount());
+        segment.put(start + FIXED_SIZE + record.getCardCount(), record.actionBytes(), 0, record.getActionCount());
+
+        // The length goes in last, so a reader never sees a record whose length is set before its contents
+        segment.putShort(start, (short) length);
+        segment.position(start + length);
+    }
+
+    /**
+     * Forces everything appended so far out to the storage device.
+     */
+    public synchronized void force()
+    {
+        segment.force();
+    }
+
+    /**
+     * Forces the journal to storage. The segments stay mapped until they are garbage collected.
+     */
+    @Override
+    public void close()
+    {
+        force();
+    }
+
+    static Path segmentPath(Path directory, int number)
+    {
+        return directory.resolve(String.format("hands-%06d.bjh", number));
+    }
+
+    /**
+     * Finds the highest table id by reading every record, for journals whose segments were written with the earlier
+     * 16-byte header, which had no room for it.
+     */
+    private static long scanTableIds(Path directory) throws IOException
+    {
+        HandHistoryRecord record = new HandHistoryRecord();
+        long highest = 0;
+
+        try (HandHistoryReader reader = new HandHistoryReader(directory))
+        {
+            while (reader.next(record))
+            {
+                highest = Math.max(highest, record.getTableId());
+            }
+        }
+
+        return highest;
+    }
+
+    private void openSegment(int number) throws IOException
+    {
+        if (segment != null)
+        {
+            segment.force();
+        }
+
+        try (FileChannel channel = FileChannel.open(segmentPath(directory, number), StandardOpenOption.CREATE_NEW,
+                                                    StandardOpenOption.READ, StandardOpenOption.WRITE))
+        {
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+
+        segment.order(ByteOrder.LITTLE_ENDIAN);
+        segment.putInt(MAGIC).putShort(VERSION).putShort((short) HEADER_SIZE).putInt(number).putInt(0)
+               .putLong(highestTableId);
+        segmentNumber = number;
+    }
+
+    private void reopenSegment(int number) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(segmentPath(directory, number), StandardOpenOption.READ,
+                                                    StandardOpenOption.WRITE))
+        {
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        }
+
+        segment.order(ByteOrder.LITTLE_ENDIAN);
+        HandHistoryReader.checkHeader(segment, number);
+        segmentNumber = number;
+
+        int position = segment.getShort(6);
+
+        if (position < HEADER_SIZE)
+        {
+            // Written with the earlier 16-byte header, which has no room for the highest table id: find it the slow
+            // way, once, and carry on in a new segment that has it
+            highestTableId = scanTableIds(directory);
+            openSegment(number + 1);
+            return;
+        }
+
+        highestTableId = segment.getLong(HIGHEST_TABLE_ID);
+
+        // Carry on after the last record
+        int length;
+
+        while (position + 2 <= segment.limit() && (length = segment.getShort(position)) != 0)
+        {
+            position += length;
+        }
+
+        segment.position(position);
+    }
+}
@@ -0,0 +1,123 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads the rounds in a hand-history journal back in the order they were written, one segment at a time. Each call to
+ * next() fills in the caller's HandHistoryRecord, so a whole journal can be read into a single record. Records of a
+ * type this version doesn't know are skipped.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class HandHistoryReader implements AutoCloseable
+{
+    private final Path directory;
+    private MappedByteBuffer segment;
+    private int segmentNumber = -1;
+
+    /**
+     * Opens the journal in the given directory for reading.
+     *
+     * @param directory The directory holding the segment files.
+     */
+    public HandHistoryReader(Path directory)
+    {
+        this.directory = directory;
+    }
+
+    /**
+     * Reads the next round.
+     *
+     * @param record The record to fill in.
+     * @return true if a round was read, false if there are no more.
+     * @throws IOException if a segment cannot be read or is not a version 1 journal segment.
+     */
+    public boolean next(HandHistoryRecord record) throws IOException
+    {
+        while (true)
+        {
+            int length = (segment == null || segment.remaining() < 2) ? 0 : segment.getShort(segment.position());
+
+            if (length == 0)
+            {
+                if (!openSegment(segmentNumber + 1))
+                {
+                    return false;
+                }
+                continue;
+            }
+
+            int start = segment.position();
+            segment.position(start + length);
+
+            if (segment.get(start + 2) == HandHistoryJournal.ROUND_RECORD)
+            {
+                read(start, record);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases the reader. The segments stay mapped until they are garbage collected.
+     */
+    @Override
+    public void close()
+    {
+        segment = null;
+    }
+
+    static void checkHeader(ByteBuffer segment, int number) throws IOException
+    {
+        if (segment.limit() < HandHistoryJournal.HEADER_SIZE || segment.getInt(0) != HandHistoryJournal.MAGIC)
+        {
+            throw new IOException("Segment " + number + " is not a hand-history journal segment");
+        }
+        if (segment.getShort(4) != HandHistoryJournal.VERSION)
+        {
+            throw new IOException("Segment " + number + " has unsupported journal version " + segment.getShort(4));
+        }
+    }
+
+    private boolean openSegment(int number) throws IOException
+    {
+        Path path = HandHistoryJournal.segmentPath(directory, number);
+
+        if (!Files.exists(path))
+        {
+            return false;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+        {
+            segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        segment.order(ByteOrder.LITTLE_ENDIAN);
+        checkHeader(segment, number);
+        segment.position(segment.getShort(6));
+        segmentNumber = number;
+
+        return true;
+    }
+
+    private void read(int start, HandHistoryRecord record)
+    {
+        int cardCount = segment.get(start + 41);
+        int actionCount = segment.get(start + 42);
+
+        record.read(segment.getLong(start + 4), segment.getInt(start + 12), segment.getLong(start + 16),
+                    segment.getInt(start + 24), segment.getInt(start + 28), (segment.get(start + 3) & 1) != 0,
+                    segment.getInt(start + 32), segment.getInt(start + 36), segment.get(start + 40), cardCount,
+                    actionCount);
+
+        segment.get(start + HandHistoryJournal.FIXED_SIZE, record.cardBytes(), 0, cardCount);
+        segment.get(start + HandHistoryJournal.FIXED_SIZE + cardCount, record.actionBytes(), 0, actionCount);
+    }
+}
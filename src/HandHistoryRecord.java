@@ -0,0 +1,336 @@
+import java.time.Instant;
+
+/**
+ * One round of Blackjack as kept in the hand-history journal: the table it was played at, the bet and pot, every card
+ * in the order it was dealt, each action the player took, how the round ended and both stashes afterwards. Records
+ * are mutable and meant to be reused, so a table can fill in the same record round after round and a reader can read
+ * a whole journal into one record without allocating.
+ *
+ * Cards are kept as CardCodec bytes, marked with DEALER_CARD when they went to the dealer. Since the table always deals
+ * in the same order, the dealt cards are also the order of the shoe for the round.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public final class HandHistoryRecord
+{
+    /**
+     * The most cards a record can hold.
+     */
+    public static final int MAX_CARDS = 64;
+
+    /**
+     * The most actions a record can hold.
+     */
+    public static final int MAX_ACTIONS = 64;
+
+    /**
+     * Set on an encoded card that was dealt to the dealer rather than the player.
+     */
+    public static final int DEALER_CARD = 0x40;
+
+    private static final BlackJackOutcome[] OUTCOMES = BlackJackOutcome.values();
+    private static final BlackJackAction[] ACTIONS = BlackJackAction.values();
+
+    private long tableId;
+    private int round;
+    private long timestamp;
+    private int bet;
+    private int pot;
+    private boolean doubled;
+    private int playerStash;
+    private int dealerStash;
+    private BlackJackOutcome outcome;
+    private final byte[] cards = new byte[MAX_CARDS];
+    private int cardCount;
+    private final byte[] actions = new byte[MAX_ACTIONS];
+    private int actionCount;
+
+    /**
+     * Empties the record for the next round at the given table.
+     *
+     * @param tableId The table's id in the journal.
+     * @param round   The round's number at the table, counting from 0.
+     */
+    public void clear(long tableId, int round)
+    {
+        this.tableId = tableId;
+        this.round = round;
+        timestamp = 0;
+        bet = 0;
+        pot = 0;
+        doubled = false;
+        playerStash = 0;
+        dealerStash = 0;
+        outcome = null;
+        cardCount = 0;
+        actionCount = 0;
+    }
+
+    /**
+     * Adds a dealt card.
+     *
+     * @param card     The card.
+     * @param toDealer true if the card went to the dealer, false if it went to the player.
+     * @throws IllegalStateException if the record already holds MAX_CARDS cards.
+     */
+    public void addCard(Card card, boolean toDealer)
+    {
+        addCard((byte) (CardCodec.encode(card) | (toDealer ? DEALER_CARD : 0)));
+    }
+
+    /**
+     * Adds an action taken by the player.
+     *
+     * @param action The action.
+     * @throws IllegalStateException if the record already holds MAX_ACTIONS actions.
+     */
+    public void addAction(BlackJackAction action)
+    {
+        if (actionCount == MAX_ACTIONS)
+        {
+            throw new IllegalStateException("A hand history record holds at most " + MAX_ACTIONS + " actions");
+        }
+
+        actions[actionCount++] = (byte) action.ordinal();
+    }
+
+    /**
+     * Records how the round ended.
+     *
+     * @param outcome     The outcome.
+     * @param bet         The player's final stake, including a double down.
+     * @param pot         The pot that was settled.
+     * @param doubled     true if the player doubled down.
+     * @param playerStash The player's stash after the round.
+     * @param dealerStash The dealer's stash after the round.
+     * @param timestamp   When the round ended, in milliseconds since the epoch.
+     */
+    public void setResult(BlackJackOutcome outcome, int bet, int pot, boolean doubled, int playerStash, int dealerStash,
+                          long timestamp)
+    {
+        this.outcome = outcome;
+        this.bet = bet;
+        this.pot = pot;
+        this.doubled = doubled;
+        this.playerStash = playerStash;
+        this.dealerStash = dealerStash;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Returns the id of the table the round was played at.
+     *
+     * @return The table id.
+     */
+    public long getTableId()
+    {
+        return tableId;
+    }
+
+    /**
+     * Returns the round's number at its table, counting from 0.
+     *
+     * @return The round number.
+     */
+    public int getRound()
+    {
+        return round;
+    }
+
+    /**
+     * Returns when the round ended.
+     *
+     * @return The time in milliseconds since the epoch.
+     */
+    public long getTimestamp()
+    {
+        return timestamp;
+    }
+
+    /**
+     * Returns the player's final stake, including a double down.
+     *
+     * @return The bet.
+     */
+    public int getBet()
+    {
+        return bet;
+    }
+
+    /**
+     * Returns the pot that was settled.
+     *
+     * @return The pot.
+     */
+    public int getPot()
+    {
+        return pot;
+    }
+
+    /**
+     * Checks if the player doubled down.
+     *
+     * @return true if the player doubled down, false otherwise.
+     */
+    public boolean isDoubled()
+    {
+        return doubled;
+    }
+
+    /**
+     * Returns the player's stash after the round.
+     *
+     * @return The player's stash.
+     */
+    public int getPlayerStash()
+    {
+        return playerStash;
+    }
+
+    /**
+     * Returns the dealer's stash after the round.
+     *
+     * @return The dealer's stash.
+     */
+    public int getDealerStash()
+    {
+        return dealerStash;
+    }
+
+    /**
+     * Returns how the round ended.
+     *
+     * @return The outcome.
+     */
+    public BlackJackOutcome getOutcome()
+    {
+        return outcome;
+    }
+
+    /**
+     * Returns the number of cards dealt in the round.
+     *
+     * @return The number of cards.
+     */
+    public int getCardCount()
+    {
+        return cardCount;
+    }
+
+    /**
+     * Returns a dealt card.
+     *
+     * @param index The card's position in dealing order.
+     * @return The encoded card (see CardCodec), without the DEALER_CARD mark.
+     */
+    public byte getCard(int index)
+    {
+        return (byte) (cards[index] & ~DEALER_CARD);
+    }
+
+    /**
+     * Checks who a dealt card went to.
+     *
+     * @param index The card's position in dealing order.
+     * @return true if the card went to the dealer, false if it went to the player.
+     */
+    public boolean isDealerCard(int index)
+    {
+        return (cards[index] & DEALER_CARD) != 0;
+    }
+
+    /**
+     * Returns the number of actions the player took.
+     *
+     * @return The number of actions.
+     */
+    public int getActionCount()
+    {
+        return actionCount;
+    }
+
+    /**
+     * Returns an action the player took.
+     *
+     * @param index The action's position, in the order they were taken.
+     * @return The action.
+     */
+    public BlackJackAction getAction(int index)
+    {
+        return ACTIONS[actions[index]];
+    }
+
+    /**
+     * Describes the round on one line, for dumping a journal as text.
+     *
+     * @return A description of the round.
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder text = new StringBuilder(256);
+
+        text.append(Instant.ofEpochMilli(timestamp)).append(" table ").append(tableId).append(" round ").append(round)
+            .append(": bet $").append(bet).append(doubled ? " (doubled)" : "").append(", pot $").append(pot);
+
+        text.append(" | player:");
+        appendCards(text, false);
+        text.append(" | dealer:");
+        appendCards(text, true);
+
+        text.append(" | actions:");
+        for (int i = 0; i < actionCount; i++)
+        {
+            text.append(i == 0 ? " " : ", ").append(getAction(i).getCommand());
+        }
+
+        return text.append(" | ").append(outcome).append(" | stashes $").append(playerStash).append(" / $")
+                   .append(dealerStash).toString();
+    }
+
+    private void appendCards(StringBuilder text, boolean dealer)
+    {
+        String separator = " ";
+
+        for (int i = 0; i < cardCount; i++)
+        {
+            if (isDealerCard(i) == dealer)
+            {
+                text.append(separator).append(CardCodec.toBlackJackCard(getCard(i)));
+                separator = ", ";
+            }
+        }
+    }
+
+    // Used by the journal to write and read the record's raw bytes
+
+    byte[] cardBytes()
+    {
+        return cards;
+    }
+
+    byte[] actionBytes()
+    {
+        return actions;
+    }
+
+    void addCard(byte card)
+    {
+        if (cardCount == MAX_CARDS)
+        {
+            throw new IllegalStateException("A hand history record holds at most " + MAX_CARDS + " cards");
+        }
+
+        cards[cardCount++] = card;
+    }
+
+    void read(long tableId, int round, long timestamp, int bet, int pot, boolean doubled, int playerStash,
+              int dealerStash, int outcome, int cardCount, int actionCount)
+    {
+        clear(tableId, round);
+        setResult(OUTCOMES[outcome], bet, pot, doubled, playerStash, dealerStash, timestamp);
+        this.cardCount = cardCount;
+        this.actionCount = actionCount;
+    }
+}
@@ -0,0 +1,264 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Replays recorded rounds from a hand-history journal through the real game and checks that they come out the same.
+ * Every recorded table gets a BlackJackTable of its own, driven through step() with the recorded bet and actions while
+ * its dealer deals the recorded cards in their recorded order. After each round the replayed outcome and both stashes
+ * must match the record, and every recorded card must have been dealt.
+ *
+ * Nothing is printed, and the tables' logging is turned down to warnings while a journal is verified, so a replay runs
+ * as fast as the game logic itself. For example:
+ *
+ * <pre>
+ * java HandHistoryReplay hands/
+ * </pre>
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class HandHistoryReplay
+{
+    // Keep the first few mismatches for the report rather than every one in a badly broken journal
+    private static final int MAX_REPORTED = 100;
+
+    private static final PrintStream NO_OUTPUT = new PrintStream(OutputStream.nullOutputStream());
+
+    private final Map<Long, ReplayedTable> tables = new HashMap<>();
+    private final List<String> mismatches = new ArrayList<>();
+    private long rounds;
+    private long mismatchCount;
+
+    /**
+     * Replays every round in a journal.
+     *
+     * @param directory The directory holding the journal's segment files.
+     * @return true if every round matched its record, false otherwise.
+     * @throws IOException if the journal cannot be read.
+     */
+    public boolean verify(Path directory) throws IOException
+    {
+        Logger tableLog = Logger.getLogger(BlackJackTable.class.getName());
+        Level level = tableLog.getLevel();
+        HandHistoryRecord record = new HandHistoryRecord();
+
+        tableLog.setLevel(Level.WARNING);
+
+        try (HandHistoryReader reader = new HandHistoryReader(directory))
+        {
+            while (reader.next(record))
+            {
+                replay(record);
+            }
+        }
+        finally
+        {
+            tableLog.setLevel(level);
+        }
+
+        return mismatchCount == 0;
+    }
+
+    /**
+     * Replays one round, carrying on from the previous round replayed for the same table.
+     *
+     * @param record The recorded round.
+     * @return true if the round matched its record, false otherwise.
+     */
+    public boolean replay(HandHistoryRecord record)
+    {
+        ReplayedTable replayed = tables.computeIfAbsent(record.getTableId(), id -> new ReplayedTable());
+        BlackJackTable table = replayed.table;
+        String problem;
+
+        rounds++;
+
+        try
+        {
+            problem = play(replayed, record);
+        }
+        catch (RuntimeException e)
+        {
+            problem = "replay failed: " + e;
+        }
+
+        replayed.nextRound = record.getRound() + 1;
+
+        if (problem == null && table.getLastOutcome() != record.getOutcome())
+        {
+            problem = "outcome " + table.getLastOutcome() + ", recorded " + record.getOutcome();
+        }
+        if (problem == null && (table.getPlayer().getStash() != record.getPlayerStash()
+                                || table.getDealer().getStash() != record.getDealerStash()))
+        {
+            problem = "stashes $" + table.getPlayer().getStash() + " / $" + table.getDealer().getStash()
+                      + ", recorded $" + record.getPlayerStash() + " / $" + record.getDealerStash();
+        }
+        if (problem == null && replayed.shoe.cardsLeftInDeck() != 0)
+        {
+            problem = replayed.shoe.cardsLeftInDeck() + " recorded cards were never dealt";
+        }
+
+        if (problem != null)
+        {
+            mismatchCount++;
+
+            if (mismatches.size() < MAX_REPORTED)
+            {
+                mismatches.add("table " + record.getTableId() + " round " + record.getRound() + ": " + problem);
+            }
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the number of rounds replayed so far.
+     *
+     * @return The number of rounds.
+     */
+    public long getRounds()
+    {
+        return rounds;
+    }
+
+    /**
+     * Returns the number of rounds that didn't match their records.
+     *
+     * @return The number of mismatched rounds.
+     */
+    public long getMismatchCount()
+    {
+        return mismatchCount;
+    }
+
+    /**
+     * Describes the first mismatched rounds, up to a hundred of them.
+     *
+     * @return One description per mismatched round, in journal order.
+     */
+    public List<String> getMismatches()
+    {
+        return List.copyOf(mismatches);
+    }
+
+    /**
+     * Plays a recorded round at its table, returning what went wrong before the round could be compared, if anything.
+     */
+    private String play(ReplayedTable replayed, HandHistoryRecord record)
+    {
+        BlackJackTable table = replayed.table;
+
+        if (record.getRound() != replayed.nextRound)
+        {
+            return "expected round " + replayed.nextRound + " next";
+        }
+        if (table.isOver())
+        {
+            return "the game at this table was already over";
+        }
+        if (record.getRound() > 0)
+        {
+            table.step("yes");
+        }
+
+        replayed.shoe.load(record);
+        table.step(Integer.toString(record.isDoubled() ? record.getBet() / 2 : record.getBet()));
+
+        for (int i = 0; i < record.getActionCount() && table.getLastOutcome() == null; i++)
+        {
+            table.step(record.getAction(i).getCommand());
+        }
+
+        return (table.getLastOutcome() == null) ? "the round was still being played after the recorded actions" : null;
+    }
+
+    public static void main(String[] args) throws IOException
+    {
+        if (args.length != 1 || !Files.isDirectory(Path.of(args[0])))
+        {
+            System.err.println("Usage: java HandHistoryReplay <journal directory>");
+            System.exit(2);
+        }
+
+        HandHistoryReplay replay = new HandHistoryReplay();
+        long start = System.nanoTime();
+        boolean matched = replay.verify(Path.of(args[0]));
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        replay.getMismatches().forEach(System.out::println);
+        System.out.printf("Replayed %d rounds in %.2f s (%.0f rounds/min): %d mismatched%n", replay.getRounds(), seconds,
+                          replay.getRounds() / seconds * 60, replay.getMismatchCount());
+
+        System.exit(matched ? 0 : 1);
+    }
+
+    /**
+     * A table being replayed, with a shoe that deals the recorded cards.
+     */
+    private static final class ReplayedTable
+    {
+        private final RecordedShoe shoe = new RecordedShoe();
+        private final BlackJackTable table = new BlackJackTable(NO_OUTPUT);
+        private int nextRound;
+
+        private ReplayedTable()
+        {
+            table.setDealer(new BlackJackDealer(2500, shoe));
+            table.start();
+        }
+    }
+
+    /**
+     * A shoe that deals exactly the cards of a recorded round, in order, and never needs shuffling.
+     */
+    private static final class RecordedShoe extends Shoe
+    {
+        private HandHistoryRecord record;
+        private int next;
+
+        private RecordedShoe()
+        {
+            super(1);
+        }
+
+        private void load(HandHistoryRecord record)
+        {
+            this.record = record;
+            this.next = 0;
+        }
+
+        @Override
+        public Card deal()
+        {
+            if (record == null || next == record.getCardCount())
+            {
+                throw new IllegalStateException("the round needed more cards than were recorded");
+            }
+
+            return CardCodec.toBlackJackCard(record.getCard(next++));
+        }
+
+        @Override
+        public int cardsLeftInDeck()
+        {
+            return (record == null) ? 0 : record.getCardCount() - next;
+        }
+
+        @Override
+        public boolean isCutCardReached()
+        {
+            return false;
+        }
+    }
+}
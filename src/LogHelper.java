@@ -1,39 +1,79 @@
 import java.io.IOException;
-import java.util.logging.FileHandler;
 import java.util.logging.Handler;
 import java.util.logging.Logger;
-import java.util.logging.SimpleFormatter;
 
+/**
+ * Hands out loggers that all write to blackjack.log through one shared AsyncLogHandler, so logging never makes the game
+ * wait on the file. The handler's buffer size and what it does when the buffer is full can be chosen with the system
+ * properties blackjack.log.capacity and blackjack.log.overflow (block or drop). Everything still queued is written out
+ * when the program exits.
+ *
+ * Messages that take work to build should be logged as suppliers, e.g. log.info(() -> "Player bet $" + bet), so that
+ * nothing is built for a record the logger's level would discard.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
 public class LogHelper
 {
-    public static Logger getLogger(Class<?> clazz)
+    /**
+     * The system property holding the number of records the log buffer holds.
+     */
+    public static final String CAPACITY_PROPERTY = "blackjack.log.capacity";
+
+    /**
+     * The system property choosing whether a full log buffer blocks the logging thread or drops the record.
+     */
+    public static final String OVERFLOW_PROPERTY = "blackjack.log.overflow";
+
+    private static final int DEFAULT_CAPACITY = 8192;
+
+    private static Handler handler;
+    private static boolean handlerFailed;
+
+    public static synchronized Logger getLogger(Class<?> clazz)
     {
         Logger logger = Logger.getLogger(clazz.getName());
-        boolean hasFileHandler = false;
+        Handler shared = getHandler();
 
-        for (Handler handler : logger.getHandlers())
+        if (shared != null)
         {
-            if (handler instanceof FileHandler)
+            for (Handler existing : logger.getHandlers())
             {
-                hasFileHandler = true;
-                break;
+                if (existing == shared)
+                {
+                    return logger;
+                }
             }
+
+            logger.addHandler(shared);
+            logger.setUseParentHandlers(false);
         }
-        if (!hasFileHandler)
+
+        return logger;
+    }
+
+    private static Handler getHandler()
+    {
+        if (handler == null && !handlerFailed)
         {
             try
             {
-                Handler fileHandler = new FileHandler("blackjack.log", 0, 1, true);
-                fileHandler.setFormatter(new SimpleFormatter());
-                logger.addHandler(fileHandler);
-                logger.setUseParentHandlers(false);
+                int capacity = Integer.getInteger(CAPACITY_PROPERTY, DEFAULT_CAPACITY);
+                String overflow = System.getProperty(OVERFLOW_PROPERTY, "block");
+
+                handler = new AsyncLogHandler("blackjack.log", capacity,
+                                              AsyncLogHandler.Overflow.valueOf(overflow.trim().toUpperCase()));
+
+                Runtime.getRuntime().addShutdownHook(new Thread(handler::close, "blackjack-log-shutdown"));
             }
-            catch (IOException e)
+            catch (IOException | IllegalArgumentException e)
             {
+                handlerFailed = true;
                 System.err.println("Could not create log file: " + e.getMessage());
             }
         }
 
-        return logger;
+        return handler;
     }
-}
\ No newline at end of file
+}
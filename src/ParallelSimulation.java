@@ -0,0 +1,118 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.random.RandomGenerator;
+
+/**
+ * Runs a headless Blackjack simulation across the threads of a ForkJoinPool. The rounds are split in half repeatedly
+ * until each piece is small enough, and every piece is played by its own BlackJackSimulation with its own dealer, shoe
+ * and random number stream split off the one given. Each worker fills in its own SimulationStats, and the pieces are
+ * merged in order as they finish, so no counters are shared between threads.
+ *
+ * Because the random streams are split along the same tree of pieces every time, a run with the same seed, size and
+ * pool parallelism gives the same results however the threads are scheduled.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class ParallelSimulation
+{
+    // Enough pieces per thread for work stealing to even out pieces that finish early
+    private static final int PIECES_PER_THREAD = 4;
+
+    private final ForkJoinPool pool;
+    private final int decks;
+    private final double penetration;
+    private final BlackJackStrategy strategy;
+    private final int bet;
+
+    /**
+     * Constructs a parallel simulation that runs on the common ForkJoinPool.
+     *
+     * @param decks       The number of decks in each worker's shoe (1–8).
+     * @param penetration The share of each shoe dealt before its cut card comes out.
+     * @param strategy    The strategy that makes the player's choices. It is shared by every worker, so it must be
+     *                    safe to call from several threads at once.
+     * @param bet         The player's opening bet each round.
+     */
+    public ParallelSimulation(int decks, double penetration, BlackJackStrategy strategy, int bet)
+    {
+        this(ForkJoinPool.commonPool(), decks, penetration, strategy, bet);
+    }
+
+    /**
+     * Constructs a parallel simulation that runs on the given pool.
+     *
+     * @param pool        The pool to run on.
+     * @param decks       The number of decks in each worker's shoe (1–8).
+     * @param penetration The share of each shoe dealt before its cut card comes out.
+     * @param strategy    The strategy that makes the player's choices. It is shared by every worker, so it must be
+     *                    safe to call from several threads at once.
+     * @param bet         The player's opening bet each round.
+     */
+    public ParallelSimulation(ForkJoinPool pool, int decks, double penetration, BlackJackStrategy strategy, int bet)
+    {
+        this.pool = pool;
+        this.decks = decks;
+        this.penetration = penetration;
+        this.strategy = strategy;
+        this.bet = bet;
+    }
+
+    /**
+     * Plays the given number of rounds across the pool.
+     *
+     * @param rounds        The number of rounds to play.
+     * @param curveInterval The number of rounds between bankroll samples.
+     * @param random        The generator every worker's random stream is split from.
+     * @return The merged statistics for all the rounds.
+     */
+    public SimulationStats run(long rounds, int curveInterval, RandomGenerator random)
+    {
+        long pieceSize = Math.max(curveInterval, rounds / ((long) pool.getParallelism() * PIECES_PER_THREAD));
+
+        return pool.invoke(new Piece(rounds, curveInterval, pieceSize, random));
+    }
+
+    /**
+     * A run of rounds that is either played directly or split in two.
+     */
+    private class Piece extends RecursiveTask<SimulationStats>
+    {
+        // RecursiveTask is Serializable, but a piece only ever lives in the pool running it
+        private static final long serialVersionUID = 1L;
+
+        private final long rounds;
+        private final int curveInterval;
+        private final long pieceSize;
+        private final transient RandomGenerator random;
+
+        Piece(long rounds, int curveInterval, long pieceSize, RandomGenerator random)
+        {
+            this.rounds = rounds;
+            this.curveInterval = curveInterval;
+            this.pieceSize = pieceSize;
+            this.random = random;
+        }
+
+        @Override
+        protected SimulationStats compute()
+        {
+            // Split on a whole number of curve intervals so the merged bankroll samples line up
+            long half = (rounds / 2) / curveInterval * curveInterval;
+
+            if (rounds <= pieceSize || half == 0)
+            {
+                BlackJackDealer dealer = new BlackJackDealer(2500, new Shoe(decks, penetration, random));
+
+                return new BlackJackSimulation(dealer, strategy, bet).run(rounds, curveInterval);
+            }
+
+            Piece later = new Piece(rounds - half, curveInterval, pieceSize, RandomSource.split(random));
+            Piece first = new Piece(half, curveInterval, pieceSize, random);
+
+            later.fork();
+
+            return first.compute().merge(later.join());
+        }
+    }
+}
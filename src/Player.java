@@ -7,6 +7,9 @@ import java.util.logging.Logger;
  * scoring rules. This class also provides basic methods to receive cards, clear a hand, and reveal cards.
  * The scoreHand() method is abstract and must be implemented in subclasses.
  *
+ * Cards are shared between hands and decks, so whether each card in the hand is face-up or face-down is tracked here
+ * rather than on the card.
+ *
  * @author Tyler Lang
  * @version 2025.04.03
  */
@@ -14,7 +17,9 @@ public abstract class Player
 {
     private String name;
     private ArrayList<Card> hand;
+    private long faceDown;
     private int stash;
+    private CardCounter counter;
     private static final Logger log = LogHelper.getLogger(Player.class);
 
     /**
@@ -44,9 +49,23 @@ public abstract class Player
      * @param stash The starting amount of money the player has.
      */
     public Player(String name, int stash)
+    {
+        this(name, stash, null);
+    }
+
+    /**
+     * Constructs a Player with a custom name and initial stash whose cards are counted by the given counter as they
+     * are seen.
+     *
+     * @param name    The name of the player.
+     * @param stash   The starting amount of money the player has.
+     * @param counter The counter, or null if the cards aren't counted.
+     */
+    protected Player(String name, int stash, CardCounter counter)
     {
         hand = new ArrayList<>();
         this.name = name;
+        this.counter = counter;
 
         try
         {
@@ -66,16 +85,47 @@ public abstract class Player
      */
     public void receiveCard(Card card, boolean visibility)
     {
-        if(visibility)
+        if(!visibility && hand.size() < Long.SIZE)
         {
-            card.show();
-            hand.add(card);
+            faceDown |= 1L << hand.size();
         }
-        else
+        else if(visibility && counter != null)
         {
-            card.hide();
-            hand.add(card);
+            counter.count(card);
         }
+
+        hand.add(card);
+    }
+
+    /**
+     * Checks if the card at the given position in the player's hand is face-up.
+     *
+     * @param index The position of the card in the hand.
+     * @return true if the card is face-up, false if face-down.
+     */
+    public boolean isCardVisible(int index)
+    {
+        return index >= Long.SIZE || (faceDown & (1L << index)) == 0;
+    }
+
+    /**
+     * Sets the counter that this player's cards are counted by as they are seen.
+     *
+     * @param counter The counter, or null to stop counting.
+     */
+    public final void setCounter(CardCounter counter)
+    {
+        this.counter = counter;
+    }
+
+    /**
+     * Returns the counter that this player's cards are counted by.
+     *
+     * @return The counter, or null if the cards aren't counted.
+     */
+    public CardCounter getCounter()
+    {
+        return counter;
     }
 
     public void setName(String name)
@@ -89,7 +139,7 @@ public abstract class Player
      * @param stash The amount to set; must be greater than or equal to 0.
      * @throws Exception If the stash is negative.
      */
-    public void setStash(int stash)
+    public final void setStash(int stash)
     {
         if (stash >= 0)
         {
@@ -121,7 +171,12 @@ public abstract class Player
         return hand;
     }
 
-    private String getName()
+    /**
+     * Returns the player's name.
+     *
+     * @return The name.
+     */
+    public String getName()
     {
         return name;
     }
@@ -133,6 +188,7 @@ public abstract class Player
     public void clearHand()
     {
         hand.clear();
+        faceDown = 0;
     }
 
     /**
@@ -144,32 +200,30 @@ public abstract class Player
     public abstract int scoreHand();
 
     /**
-     * Makes all cards in the player's hand visible (face-up).
+     * Makes all cards in the player's hand visible (face-up), counting the ones that were face-down.
      */
     public void showAllCards()
     {
-        for(Card card : hand)
+        for (int i = 0; counter != null && faceDown != 0 && i < Long.SIZE && i < hand.size(); i++)
         {
-            card.show();
+            if (!isCardVisible(i))
+            {
+                counter.count(hand.get(i));
+            }
         }
+
+        faceDown = 0;
     }
 
     /**
-     * Returns a string summarizing the player's name, stash, hand score, and visible cards.
+     * Returns a string summarizing the player's name, stash, hand score, and visible cards. The table prints players
+     * through a TableRenderer instead, which produces the same text without allocating.
      *
      * @return A formatted string with player information and card details.
      */
     @Override
     public String toString()
     {
-        String player = name + " has $" + stash + "\n";
-        player += "Current points: " + scoreHand() + "\n";
-
-        for(Card card : hand)
-        {
-            player += card.toString() + "\n";
-        }
-
-        return player;
+        return TableRenderer.describe(this);
     }
 }
\ No newline at end of file
@@ -1,3 +1,5 @@
+import java.util.random.RandomGenerator;
+
 /**
  * The PokerDealer class represents the dealer in a poker game. It extends PokerPlayer and manages a PokerDeck to deal
  * cards to players.The dealer can also reset the deck when needed.
@@ -7,7 +9,7 @@
  */
 public class PokerDealer extends PokerPlayer
 {
-    private PokerDeck deck;
+    private final PokerDeck deck;
 
     /**
      * Constructs a PokerDealer with the specified initial stash.
@@ -21,6 +23,18 @@ public class PokerDealer extends PokerPlayer
         deck = new PokerDeck();
     }
 
+    /**
+     * Constructs a PokerDealer with the specified initial stash whose deck is shuffled with the given generator.
+     *
+     * @param stash  the amount of money the dealer starts with.
+     * @param random the random number generator used for shuffling.
+     */
+    public PokerDealer(int stash, RandomGenerator random)
+    {
+        super("Dealer", stash);
+        deck = new PokerDeck(random);
+    }
+
     /**
      * Deals a card from the deck. If the deck is empty, it resets the deck and then deals a new card.
      *
@@ -28,23 +42,22 @@ public class PokerDealer extends PokerPlayer
      */
     public Card deal()
     {
-        if(deck.deal() != null)
-        {
-            return deck.deal();
-        }
-        else
+        Card card = deck.deal();
+
+        if(card == null)
         {
             resetDeck();
+            card = deck.deal();
         }
 
-        return deck.deal();
+        return card;
     }
 
     /**
-     * Resets the dealer's deck by creating a new instance of PokerDeck.
+     * Resets the dealer's deck by gathering all 52 cards back and shuffling them.
      */
     public void resetDeck()
     {
-        this.deck = new PokerDeck();
+        deck.shuffle();
     }
 }
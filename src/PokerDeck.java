@@ -1,5 +1,6 @@
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.List;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a standard 52-card poker deck.
@@ -13,45 +14,47 @@ import java.util.Collections;
 public class PokerDeck extends Deck
 {
     /**
-     * Constructs a new PokerDeck by calling the superclass constructor.
-     * The actual cards are generated by the buildDeck method.
+     * Constructs a new PokerDeck holding the 52 standard cards, shuffled.
      */
     public PokerDeck()
     {
-        super();
-        buildDeck();
+        this(RandomSource.next());
+    }
+
+    /**
+     * Constructs a new PokerDeck that is shuffled with the given generator.
+     *
+     * @param random The random number generator used for shuffling.
+     */
+    public PokerDeck(RandomGenerator random)
+    {
+        super(random, cards());
     }
 
     /**
      * Builds a standard 52-card poker deck.
-     * Creates cards from 2 to Ace for each suit, assigns names to face cards,
-     * stores them in a list, and shuffles the deck.
+     * Takes the shared cards from 2 to Ace for each suit, stores them in a list, and shuffles the deck.
      * Overrides the abstract method in the Deck class.
      */
     @Override
     public void buildDeck()
     {
-        String name = "";
-        ArrayList<Card> cards = new ArrayList<>();
+        super.setCards(cards());
+        super.shuffle();
+    }
+
+    private static List<Card> cards()
+    {
+        ArrayList<Card> cards = new ArrayList<>(52);
 
         for(Suit suit : Suit.values())
         {
             for(int i = 2; i <= 14; i++)
             {
-                switch(i)
-                {
-                    case 11 -> name = "Jack";
-                    case 12 -> name = "Queen";
-                    case 13 -> name = "King";
-                    case 14 -> name = "Ace";
-                    default -> name = String.valueOf(i);
-                }
-
-                cards.add(new Card(suit, i, false, name));
+                cards.add(Card.of(suit, i));
             }
         }
 
-        Collections.shuffle(cards);
-        super.setCards(cards);
+        return cards;
     }
 }
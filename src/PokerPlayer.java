@@ -2,16 +2,17 @@ import java.util.ArrayList;
 
 /**
  * Represents a player in a game of Poker, responsible for evaluating and scoring the player's hand. This class extends
- * Player and implements logic to determine hand rankings such as straight, flush, three of a kind, pair, and
- * combinations like straight flush. Each hand is scored based on its ranking and the total value of the cards.
+ * Player and scores hand rankings such as straight, flush, three of a kind, pair, and combinations like straight
+ * flush. Each hand is scored based on its ranking and the total value of the cards.
+ *
+ * Three-card hands are scored by ThreeCardEvaluator with one table lookup, and scoring never reorders the player's
+ * cards.
  *
  * @author Tyler Lang
  * @version 2025.04.03
  */
 public class PokerPlayer extends Player
 {
-    private CardComparator cardComparator = new CardComparator();
-
     /**
      * Constructs a new PokerPlayer with an empty hand.
      */
@@ -22,7 +23,6 @@ public class PokerPlayer extends Player
 
     /**
      * Constructs a new PokerPlayer with a specified name and starting stash amount.
-     * Initializes the player's hand and sets up the card comparator used for hand evaluation.
      *
      * @param name  The name of the player.
      * @param stash The amount of money the player starts with.
@@ -36,179 +36,80 @@ public class PokerPlayer extends Player
      * Evaluates the player's hand and assigns a score based on Poker hand rankings.
      * Higher scores are given to stronger hands such as a straight flush or three of a kind.
      *
+     * A hand of more than three cards scores as its best three cards. A hand of fewer than three cards can only be a
+     * pair or a high card.
+     *
      * @return An integer score representing the score of the hand.
      */
     @Override
     public int scoreHand()
     {
-        int score = 0;
+        ArrayList<Card> hand = getHand();
+        int size = hand.size();
 
-        if(isStraightFlush())
-        {
-            score = 1000 + calculateCardRankSum();
-        }
-        else if(isThreeOfKind())
-        {
-            score = 800 + calculateCardRankSum();
-        }
-        else if(isStraight())
-        {
-            score = 600 + calculateCardRankSum();
-        }
-        else if(isFlush())
-        {
-            score = 400 + calculateCardRankSum();
-        }
-        else if(isPair())
+        if (size == 3)
         {
-            score = 200 + calculateCardRankSum();
+            return ThreeCardEvaluator.evaluate(hand.get(0), hand.get(1), hand.get(2));
         }
-        else
+        if (size < 3)
         {
-            score = 100 + calculateCardRankSum();
+            return scorePartialHand(hand);
         }
 
-        return score;
-    }
+        int best = 0;
 
-    /**
-     * Determines if the player's hand is a straight flush.
-     * A straight flush is three sequential cards of the same suit.
-     *
-     * @return true if the hand is a straight flush; false otherwise.
-     */
-    private boolean isStraightFlush()
-    {
-        if(isStraight() && isFlush()) return true;
-
-        return false;
-    }
-
-    /**
-     * Checks if the player's hand contains three cards of the same rank.
-     *
-     * @return true if the hand has three cards of the same value; false otherwise.
-     */
-    private boolean isThreeOfKind()
-    {
-        ArrayList<Card> sortedCards = getHand();
-        sortedCards.sort(cardComparator);
-        int value;
-
-        for(int i = 0; i < sortedCards.size() - 2; i++)
+        for (int i = 0; i < size - 2; i++)
         {
-            value = sortedCards.get(i).getValue();
-
-            if(value == sortedCards.get(i+1).getValue() && value == sortedCards.get(i+2).getValue()) return true;
-        }
-
-        return false;
-    }
-
-    /**
-     * Checks if the player's hand contains five cards in a sequential order.
-     * Also accounts for the Ace acting as either the highest or lowest card.
-     *
-     * @return true if the hand is a straight; false otherwise.
-     */
-    private boolean isStraight()
-    {
-        ArrayList<Card> sortedCards = getHand();
-        sortedCards.sort(cardComparator);
-        int count = 1;
-        boolean hasAce = false;
-
-        for(int i = 0; i < sortedCards.size() - 1; i++)
-        {
-            if(sortedCards.get(i).compareTo(sortedCards.get(i+1)) == -1)
-            {
-                count++;
-            }
-            else if(sortedCards.get(i + 1).getValue() == 14)
-            {
-                hasAce = true;
-            }
-            else
+            for (int j = i + 1; j < size - 1; j++)
             {
-                return false;
+                for (int k = j + 1; k < size; k++)
+                {
+                    best = Math.max(best, ThreeCardEvaluator.evaluate(hand.get(i), hand.get(j), hand.get(k)));
+                }
             }
         }
 
-        // Checks that the hand contains a 2, has had at least 2 consecutive cards, and that an ace is present.
-        // Possibly flawed logic but seems to work for now!
-        if(sortedCards.stream().anyMatch(card -> card.getValue() == 2) && count == 2 && hasAce)
-        {
-            count++;
-        }
-
-        // If three consecutive cards in a row, return true.
-        if(count == 3) return true;
-
-        return false;
+        return best;
     }
 
     /**
-     * Checks if the player's hand contains three cards of the same suit.
+     * Scores a hand of fewer than three cards, which can only be a pair or a high card.
      *
-     * @return true if the hand is a flush; false otherwise.
+     * @param hand The cards in the hand.
+     * @return The score of the hand.
      */
-    private boolean isFlush()
+    private int scorePartialHand(ArrayList<Card> hand)
     {
-        ArrayList<Card> sortedCards = getHand();
-        sortedCards.sort(cardComparator);
-        int count = 1;
+        int sum = 0;
 
-        for(int i = 0; i < sortedCards.size() - 1; i++)
+        for (Card card : hand)
         {
-            if(sortedCards.get(i).getSuit() == sortedCards.get(i+1).getSuit())
-            {
-                count++;
-            }
-            else
-            {
-                count = 1;
-            }
-            if(count == 3)
-            {
-                return true;
-            }
+            sum += card.getValue();
         }
 
-        return false;
-    }
-
-    /**
-     * Checks if the player's hand contains a pair of cards with the same value.
-     *
-     * @return true if a pair is found; false otherwise.
-     */
-    private boolean isPair()
-    {
-        ArrayList<Card> sortedCards = getHand();
-        sortedCards.sort(cardComparator);
-
-        for(int i = 0; i < sortedCards.size() - 1; i++)
+        if (hand.size() == 2 && hand.get(0).getValue() == hand.get(1).getValue())
         {
-            if(sortedCards.get(i).getValue() == sortedCards.get(i+1).getValue()) return true;
+            return 200 + sum;
         }
 
-        return false;
+        return 100 + sum;
     }
 
     /**
-     * Calculates the total sum of all card values in the player's hand.
+     * Evaluates the best five-card hand out of the five to seven cards in the player's hand, e.g. two hole cards and
+     * a five-card board. Unlike scoreHand(), the result orders every pair of hands strictly, kickers included, so the
+     * highest strength at a showdown wins and equal strengths split the pot.
      *
-     * @return the sum of card values.
+     * @return The strength of the player's best five-card hand (see PokerHandEvaluator).
+     * @throws IllegalStateException if the hand does not hold between 5 and 7 cards.
      */
-    private int calculateCardRankSum()
+    public int getHandStrength()
     {
-        int sum = 0;
-
-        for(Card card : getHand())
+        if (getHand().size() < 5 || getHand().size() > 7)
         {
-            sum += card.getValue();
+            throw new IllegalStateException("A showdown hand must hold between 5 and 7 cards");
         }
 
-        return sum;
+        return PokerHandEvaluator.evaluate(getHand());
     }
-}
\ No newline at end of file
+}
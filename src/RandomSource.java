@@ -0,0 +1,106 @@
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Creates the random number generators used to shuffle decks and shoes. The algorithm and seed can be chosen with the
+ * system properties blackjack.random.algorithm (e.g. L64X128MixRandom, SplittableRandom, Xoshiro256PlusPlus) and
+ * blackjack.random.seed. When a seed is given, every generator handed out by next() is split from one generator
+ * seeded with it, so a run can be replayed exactly by starting it again with the same seed.
+ *
+ * Each deck gets its own generator rather than sharing one, and split() gives a worker thread its own independent
+ * stream, so parallel shuffling never contends on a shared generator.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public final class RandomSource
+{
+    /**
+     * The system property naming the generator algorithm.
+     */
+    public static final String ALGORITHM_PROPERTY = "blackjack.random.algorithm";
+
+    /**
+     * The system property holding the seed. When absent, generators are seeded unpredictably.
+     */
+    public static final String SEED_PROPERTY = "blackjack.random.seed";
+
+    /**
+     * The algorithm used when none is configured.
+     */
+    public static final String DEFAULT_ALGORITHM = "L64X128MixRandom";
+
+    private static RandomGenerator root;
+
+    private RandomSource()
+    {
+
+    }
+
+    /**
+     * Creates an unseeded generator using the given algorithm.
+     *
+     * @param algorithm The name of the algorithm, as known to RandomGeneratorFactory.
+     * @return A new generator.
+     * @throws IllegalArgumentException if the algorithm is not available.
+     */
+    public static RandomGenerator create(String algorithm)
+    {
+        return RandomGeneratorFactory.of(algorithm).create();
+    }
+
+    /**
+     * Creates a generator using the given algorithm and seed. Two generators created with the same algorithm and seed
+     * produce the same sequence.
+     *
+     * @param algorithm The name of the algorithm, as known to RandomGeneratorFactory.
+     * @param seed      The seed.
+     * @return A new generator.
+     * @throws IllegalArgumentException if the algorithm is not available.
+     */
+    public static RandomGenerator create(String algorithm, long seed)
+    {
+        return RandomGeneratorFactory.of(algorithm).create(seed);
+    }
+
+    /**
+     * Returns a new generator for a deck, shoe or dealer that was not given one, following the configured algorithm
+     * and seed.
+     *
+     * @return A generator independent of every other generator handed out by this method.
+     */
+    public static synchronized RandomGenerator next()
+    {
+        if (root == null)
+        {
+            String algorithm = System.getProperty(ALGORITHM_PROPERTY, DEFAULT_ALGORITHM);
+            String seed = System.getProperty(SEED_PROPERTY);
+
+            root = (seed == null) ? create(algorithm) : create(algorithm, Long.parseLong(seed.trim()));
+        }
+
+        return split(root);
+    }
+
+    /**
+     * Splits an independent stream off the given generator, e.g. to give each worker thread its own. Splittable
+     * generators are split and jumpable generators are jumped; any other generator seeds a new default-algorithm
+     * generator. The result is deterministic for a given parent state.
+     *
+     * @param parent The generator to split from. It is advanced by the split.
+     * @return A new generator whose stream does not overlap the parent's in practice.
+     */
+    public static RandomGenerator split(RandomGenerator parent)
+    {
+        if (parent instanceof RandomGenerator.SplittableGenerator splittable)
+        {
+            return splittable.split();
+        }
+        if (parent instanceof RandomGenerator.JumpableGenerator jumpable)
+        {
+            return jumpable.copyAndJump();
+        }
+
+        return create(DEFAULT_ALGORITHM, parent.nextLong());
+    }
+}
@@ -0,0 +1,134 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Represents a dealing shoe for Blackjack: one to eight 52-card Blackjack decks shuffled together, with a cut card
+ * placed at a configurable penetration. Like a casino shoe, it is only reshuffled once the cut card has come out,
+ * rather than before every round.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class Shoe extends Deck
+{
+    /**
+     * The share of the shoe dealt before the cut card comes out when no penetration is given.
+     */
+    public static final double DEFAULT_PENETRATION = 0.75;
+
+    private final int decks;
+    private final int cutCard;
+
+    /**
+     * Constructs a shuffled shoe with the given number of decks and the default penetration.
+     *
+     * @param decks The number of 52-card decks in the shoe (1–8).
+     */
+    public Shoe(int decks)
+    {
+        this(decks, DEFAULT_PENETRATION);
+    }
+
+    /**
+     * Constructs a shuffled shoe with the given number of decks and the cut card at the given penetration.
+     *
+     * @param decks       The number of 52-card decks in the shoe (1–8).
+     * @param penetration The share of the shoe dealt before the cut card comes out, greater than 0 and at most 1.
+     * @throws IllegalArgumentException if decks or penetration is out of range.
+     */
+    public Shoe(int decks, double penetration)
+    {
+        this(decks, penetration, RandomSource.next());
+    }
+
+    /**
+     * Constructs a shoe with the given number of decks and the cut card at the given penetration, shuffled with the
+     * given generator.
+     *
+     * @param decks       The number of 52-card decks in the shoe (1–8).
+     * @param penetration The share of the shoe dealt before the cut card comes out, greater than 0 and at most 1.
+     * @param random      The random number generator used for shuffling.
+     * @throws IllegalArgumentException if decks or penetration is out of range.
+     */
+    public Shoe(int decks, double penetration, RandomGenerator random)
+    {
+        super(random, cards(decks));
+
+        if (!(penetration > 0 && penetration <= 1))
+        {
+            throw new IllegalArgumentException("Penetration must be greater than 0 and no greater than 1");
+        }
+
+        this.decks = decks;
+        this.cutCard = Math.max(1, (int) (decks * 52 * penetration));
+    }
+
+    /**
+     * Returns the number of 52-card decks in the shoe.
+     *
+     * @return The number of decks.
+     */
+    public int getDecks()
+    {
+        return decks;
+    }
+
+    /**
+     * Returns the number of cards that can be dealt before the cut card comes out.
+     *
+     * @return The position of the cut card.
+     */
+    public int getCutCard()
+    {
+        return cutCard;
+    }
+
+    /**
+     * Checks if the cut card has come out, meaning the shoe should be shuffled before the next round.
+     *
+     * @return true if the cut card has been reached, false otherwise.
+     */
+    public boolean isCutCardReached()
+    {
+        return decks * 52 - cardsLeftInDeck() >= cutCard;
+    }
+
+    /**
+     * Fills the shoe with the shared Blackjack-valued cards of every deck and shuffles it.
+     */
+    @Override
+    public void buildDeck()
+    {
+        super.setCards(cards(decks));
+        super.shuffle();
+    }
+
+    /**
+     * Returns the shared Blackjack-valued cards of the given number of decks, in order.
+     *
+     * @throws IllegalArgumentException if decks is out of range.
+     */
+    private static List<Card> cards(int decks)
+    {
+        if (decks < 1 || decks > 8)
+        {
+            throw new IllegalArgumentException("A shoe must hold between 1 and 8 decks");
+        }
+
+        ArrayList<Card> cards = new ArrayList<>(decks * 52);
+
+        for (int d = 0; d < decks; d++)
+        {
+            for (Suit suit : Suit.values())
+            {
+                for (int i = 2; i <= 14; i++)
+                {
+                    cards.add(Card.ofBlackJack(suit, i));
+                }
+            }
+        }
+
+        return cards;
+    }
+}
@@ -0,0 +1,275 @@
+/**
+ * Running totals for a headless Blackjack simulation: how many rounds were won, lost and pushed, the money won or lost,
+ * and the player's bankroll sampled at a fixed interval of rounds. Recording a round only updates counters, so it is
+ * cheap enough to call once per simulated round.
+ *
+ * Statistics are not thread-safe. A parallel simulation gives each worker its own and merges them once the workers are
+ * done, instead of sharing counters between threads.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class SimulationStats
+{
+    private final int curveInterval;
+    private final long[] bankrollCurve;
+
+    private long rounds;
+    private long wins;
+    private long losses;
+    private long pushes;
+    private long surrenders;
+    private long blackJacks;
+    private long doubleDowns;
+    private long totalBet;
+    private long net;
+
+    /**
+     * Constructs empty statistics that sample the bankroll every curveInterval rounds, for up to the given number of
+     * rounds.
+     *
+     * @param expectedRounds The number of rounds the bankroll curve has room for.
+     * @param curveInterval  The number of rounds between bankroll samples.
+     * @throws IllegalArgumentException if curveInterval is less than 1.
+     */
+    public SimulationStats(long expectedRounds, int curveInterval)
+    {
+        if (curveInterval < 1)
+        {
+            throw new IllegalArgumentException("The bankroll curve interval must be at least 1 round");
+        }
+
+        this.curveInterval = curveInterval;
+        this.bankrollCurve = new long[(int) (expectedRounds / curveInterval)];
+    }
+
+    /**
+     * Records the result of one round.
+     *
+     * @param outcome   How the round ended.
+     * @param bet       The player's opening bet.
+     * @param netResult The money the player won (positive) or lost (negative) in the round.
+     * @param doubled   Whether the player doubled down.
+     */
+    public void record(BlackJackOutcome outcome, int bet, int netResult, boolean doubled)
+    {
+        rounds++;
+        totalBet += bet;
+        net += netResult;
+
+        if (outcome.isPlayerWin())
+        {
+            wins++;
+        }
+        else if (outcome.isPlayerLoss())
+        {
+            losses++;
+        }
+        else
+        {
+            pushes++;
+        }
+
+        if (outcome == BlackJackOutcome.SURRENDER)
+        {
+            surrenders++;
+        }
+        if (outcome == BlackJackOutcome.PLAYER_BLACKJACK)
+        {
+            blackJacks++;
+        }
+        if (doubled)
+        {
+            doubleDowns++;
+        }
+
+        if (rounds % curveInterval == 0 && rounds / curveInterval <= bankrollCurve.length)
+        {
+            bankrollCurve[(int) (rounds / curveInterval) - 1] = net;
+        }
+    }
+
+    /**
+     * Combines these statistics with those of rounds played after them, as if all the rounds had been played in one
+     * run. The later rounds' bankroll samples are appended, offset by this run's net result, so both runs should
+     * cover a whole number of curve intervals.
+     *
+     * @param later The statistics of the rounds played after these.
+     * @return New statistics covering both runs.
+     * @throws IllegalArgumentException if the two use different curve intervals.
+     */
+    public SimulationStats merge(SimulationStats later)
+    {
+        if (later.curveInterval != curveInterval)
+        {
+            throw new IllegalArgumentException("Only statistics with the same bankroll curve interval can be merged");
+        }
+
+        SimulationStats merged = new SimulationStats(rounds + later.rounds, curveInterval);
+        int samples = (int) Math.min(rounds / curveInterval, bankrollCurve.length);
+        int laterSamples = Math.min(merged.bankrollCurve.length - samples, later.bankrollCurve.length);
+
+        System.arraycopy(bankrollCurve, 0, merged.bankrollCurve, 0, samples);
+
+        for (int i = 0; i < laterSamples; i++)
+        {
+            merged.bankrollCurve[samples + i] = net + later.bankrollCurve[i];
+        }
+
+        merged.rounds = rounds + later.rounds;
+        merged.wins = wins + later.wins;
+        merged.losses = losses + later.losses;
+        merged.pushes = pushes + later.pushes;
+        merged.surrenders = surrenders + later.surrenders;
+        merged.blackJacks = blackJacks + later.blackJacks;
+        merged.doubleDowns = doubleDowns + later.doubleDowns;
+        merged.totalBet = totalBet + later.totalBet;
+        merged.net = net + later.net;
+
+        return merged;
+    }
+
+    /**
+     * Returns the number of rounds played.
+     *
+     * @return The number of rounds.
+     */
+    public long getRounds()
+    {
+        return rounds;
+    }
+
+    /**
+     * Returns the number of rounds the player won.
+     *
+     * @return The number of wins.
+     */
+    public long getWins()
+    {
+        return wins;
+    }
+
+    /**
+     * Returns the number of rounds the player lost, including surrenders.
+     *
+     * @return The number of losses.
+     */
+    public long getLosses()
+    {
+        return losses;
+    }
+
+    /**
+     * Returns the number of rounds that ended in a push.
+     *
+     * @return The number of pushes.
+     */
+    public long getPushes()
+    {
+        return pushes;
+    }
+
+    /**
+     * Returns the number of rounds the player surrendered.
+     *
+     * @return The number of surrenders.
+     */
+    public long getSurrenders()
+    {
+        return surrenders;
+    }
+
+    /**
+     * Returns the number of rounds the player won with a Blackjack.
+     *
+     * @return The number of player Blackjacks.
+     */
+    public long getBlackJacks()
+    {
+        return blackJacks;
+    }
+
+    /**
+     * Returns the number of rounds the player doubled down.
+     *
+     * @return The number of double downs.
+     */
+    public long getDoubleDowns()
+    {
+        return doubleDowns;
+    }
+
+    /**
+     * Returns the money the player won (positive) or lost (negative) over every round.
+     *
+     * @return The player's net result.
+     */
+    public long getNet()
+    {
+        return net;
+    }
+
+    /**
+     * Returns the share of rounds the player won.
+     *
+     * @return The win rate, from 0 to 1.
+     */
+    public double getWinRate()
+    {
+        return rounds == 0 ? 0 : (double) wins / rounds;
+    }
+
+    /**
+     * Returns the share of rounds the player lost.
+     *
+     * @return The loss rate, from 0 to 1.
+     */
+    public double getLossRate()
+    {
+        return rounds == 0 ? 0 : (double) losses / rounds;
+    }
+
+    /**
+     * Returns the share of rounds that ended in a push.
+     *
+     * @return The push rate, from 0 to 1.
+     */
+    public double getPushRate()
+    {
+        return rounds == 0 ? 0 : (double) pushes / rounds;
+    }
+
+    /**
+     * Returns the player's expected value per hand as a share of the opening bet, e.g. -0.02 means the player loses
+     * 2% of what they bet per hand on average.
+     *
+     * @return The expected value per hand, in opening bets.
+     */
+    public double getExpectedValue()
+    {
+        return totalBet == 0 ? 0 : (double) net / totalBet;
+    }
+
+    /**
+     * Returns the player's net result after every curveInterval rounds, starting with the first interval.
+     *
+     * @return A copy of the sampled bankroll curve.
+     */
+    public long[] getBankrollCurve()
+    {
+        return bankrollCurve.clone();
+    }
+
+    /**
+     * Returns a summary of the simulation's results.
+     *
+     * @return A multi-line summary.
+     */
+    @Override
+    public String toString()
+    {
+        return String.format("Rounds played: %d%nWins: %.4f%nLosses: %.4f%nPushes: %.4f%nEV per hand: %+.4f bets%n"
+                        + "Net result: $%d%n",
+                rounds, getWinRate(), getLossRate(), getPushRate(), getExpectedValue(), net);
+    }
+}
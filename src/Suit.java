@@ -2,69 +2,28 @@
  * This Enum represents the four suits in a standard deck of playing cards.
  *
  * @author Tyler Lang
- * @version 2025.03.22
+ * @version 2025.04.03
  */
 public enum Suit
 {
     Clubs,
     Diamonds,
     Hearts,
-    Spades
-}
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-    /*
-    @Override
-    public String toString()
+    Spades;
+
+    /**
+     * Returns the Unicode symbol for the suit, e.g. "\u2665" for Hearts.
+     *
+     * @return The suit's symbol.
+     */
+    public String getSymbol()
     {
-        String symbol = this.name();
-
-        switch (this)
+        return switch (this)
         {
-            case Clubs:
-                symbol = "\u2663";
-                break;
-            case Spades:
-                symbol = "\u2660";
-                break;
-            case Diamonds:
-                symbol = "\u2666";
-                break;
-            case Hearts:
-                symbol = "\u2665";
-                break;
-        }
-        
-        return symbol;
+            case Clubs -> "\u2663";
+            case Spades -> "\u2660";
+            case Diamonds -> "\u2666";
+            case Hearts -> "\u2665";
+        };
     }
-    */
+}
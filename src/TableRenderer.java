@@ -0,0 +1,201 @@
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Writes the players at a table, each with their stash, points and cards, in the same form as Player.toString(), but
+ * without building a new String for every line. The text is built in one reusable StringBuilder from labels made once
+ * for every card, then encoded into one reusable byte buffer and written to the stream in a single write. Once the
+ * buffers have grown to fit the table, rendering allocates nothing.
+ *
+ * Cards can be labelled with suit symbols ("Queen of &#9829;") instead of suit names ("Queen of Hearts"), either by
+ * the constructor or, for a table's default renderer, with the system property blackjack.suitSymbols=true.
+ *
+ * A renderer keeps its buffers between calls, so it must not be shared between threads.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class TableRenderer
+{
+    /**
+     * The system property that turns on suit symbols for renderers made with the no-argument constructor.
+     */
+    public static final String SUIT_SYMBOLS_PROPERTY = "blackjack.suitSymbols";
+
+    private static final String HIDDEN_CARD = "Hidden Card";
+    private static final String[] NAME_LABELS = labels(false);
+    private static final String[] SYMBOL_LABELS = labels(true);
+
+    private final String[] labels;
+    private final StringBuilder text = new StringBuilder(256);
+    private char[] chars = new char[0];
+    private CharBuffer charBuffer = CharBuffer.wrap(chars);
+    private ByteBuffer bytes = ByteBuffer.allocate(0);
+    private CharsetEncoder encoder;
+
+    /**
+     * Constructs a renderer that uses suit symbols if the system property blackjack.suitSymbols is true, and suit
+     * names otherwise.
+     */
+    public TableRenderer()
+    {
+        this(Boolean.getBoolean(SUIT_SYMBOLS_PROPERTY));
+    }
+
+    /**
+     * Constructs a renderer.
+     *
+     * @param suitSymbols true to label cards with suit symbols, false to use suit names.
+     */
+    public TableRenderer(boolean suitSymbols)
+    {
+        this.labels = suitSymbols ? SYMBOL_LABELS : NAME_LABELS;
+    }
+
+    /**
+     * Writes the player and then the dealer to the stream, each followed by a blank line, as printing their
+     * toString() with println() would.
+     *
+     * @param out    The stream to write to.
+     * @param player The player.
+     * @param dealer The dealer.
+     */
+    public void printPlayers(PrintStream out, Player player, Player dealer)
+    {
+        text.setLength(0);
+        appendPlayer(text, player, labels).append(System.lineSeparator());
+        appendPlayer(text, dealer, labels).append(System.lineSeparator());
+        write(out);
+    }
+
+    /**
+     * Renders a player into the renderer's buffer, which is reused by the next call.
+     *
+     * @param player The player to render.
+     * @return The rendered text, valid until this renderer is next used.
+     */
+    public CharSequence render(Player player)
+    {
+        text.setLength(0);
+        return appendPlayer(text, player, labels);
+    }
+
+    /**
+     * Appends a card's label, e.g. "Queen of Hearts".
+     *
+     * @param text The text to append to.
+     * @param card The card.
+     * @return The text, for chaining.
+     */
+    public StringBuilder appendCard(StringBuilder text, Card card)
+    {
+        return appendCard(text, card, labels);
+    }
+
+    /**
+     * Renders a player with suit names, for Player.toString().
+     *
+     * @param player The player to render.
+     * @return The player's name, stash, points and cards, one to a line.
+     */
+    static String describe(Player player)
+    {
+        return appendPlayer(new StringBuilder(64), player, NAME_LABELS).toString();
+    }
+
+    private static StringBuilder appendPlayer(StringBuilder text, Player player, String[] labels)
+    {
+        text.append(player.getName()).append(" has $").append(player.getStash()).append('\n');
+        text.append("Current points: ").append(player.scoreHand()).append('\n');
+
+        for (int i = 0; i < player.getHand().size(); i++)
+        {
+            if (player.isCardVisible(i))
+            {
+                appendCard(text, player.getHand().get(i), labels);
+            }
+            else
+            {
+                text.append(HIDDEN_CARD);
+            }
+            text.append('\n');
+        }
+
+        return text;
+    }
+
+    private static StringBuilder appendCard(StringBuilder text, Card card, String[] labels)
+    {
+        Suit suit = card.getSuit();
+        int rank = card.getRank();
+
+        if (suit != null && rank >= 2 && rank <= 14
+            && (card == Card.of(suit, rank) || card == Card.ofBlackJack(suit, rank)))
+        {
+            return text.append(labels[index(suit, rank)]);
+        }
+
+        // A one-off card with a name of its own
+        text.append(card.getName()).append(" of ");
+        return (suit != null && labels == SYMBOL_LABELS) ? text.append(suit.getSymbol()) : text.append(suit);
+    }
+
+    /**
+     * Encodes the text into the byte buffer in the stream's charset and writes it out in one go.
+     */
+    private void write(PrintStream out)
+    {
+        int length = text.length();
+
+        if (encoder == null || !encoder.charset().equals(out.charset()))
+        {
+            encoder = out.charset().newEncoder()
+                         .onMalformedInput(CodingErrorAction.REPLACE)
+                         .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+        if (chars.length < length)
+        {
+            chars = new char[Math.max(length, chars.length * 2)];
+            charBuffer = CharBuffer.wrap(chars);
+        }
+
+        int maxBytes = (int) Math.ceil(length * (double) encoder.maxBytesPerChar());
+
+        if (bytes.capacity() < maxBytes)
+        {
+            bytes = ByteBuffer.allocate(Math.max(maxBytes, bytes.capacity() * 2));
+        }
+
+        text.getChars(0, length, chars, 0);
+        charBuffer.clear().limit(length);
+        bytes.clear();
+        encoder.reset();
+        encoder.encode(charBuffer, bytes, true);
+        encoder.flush(bytes);
+        out.write(bytes.array(), 0, bytes.position());
+    }
+
+    private static String[] labels(boolean suitSymbols)
+    {
+        String[] labels = new String[Suit.values().length * 13];
+
+        for (Suit suit : Suit.values())
+        {
+            for (int rank = 2; rank <= 14; rank++)
+            {
+                labels[index(suit, rank)] = Card.rankName(rank) + " of "
+                                            + (suitSymbols ? suit.getSymbol() : suit.toString());
+            }
+        }
+
+        return labels;
+    }
+
+    private static int index(Suit suit, int rank)
+    {
+        return suit.ordinal() * 13 + rank - 2;
+    }
+}
@@ -0,0 +1,167 @@
+/**
+ * Scores three-card Poker hands with a single table lookup. Every one of the 22,100 possible three-card hands is
+ * scored once when the class loads, and a hand is found in the table through the combinatorial number system: with
+ * the cards' deck positions sorted as a &lt; b &lt; c, the hand's index is C(a,1) + C(b,2) + C(c,3), which numbers the
+ * hands 0 to 22,099 with no gaps or collisions.
+ *
+ * Scores follow PokerPlayer's scheme: a base for the hand's rank (straight flush 1000, three of a kind 800,
+ * straight 600, flush 400, pair 200, high card 100) plus the sum of the card values. An Ace counts as 14, except in
+ * the Ace-2-3 straight where it is the low card and counts as 1.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public final class ThreeCardEvaluator
+{
+    /**
+     * The number of distinct three-card hands in a 52-card deck.
+     */
+    public static final int HAND_COUNT = 22100;
+
+    private static final int[] CHOOSE_2 = new int[52];
+    private static final int[] CHOOSE_3 = new int[52];
+    private static final short[] SCORES = new short[HAND_COUNT];
+
+    static
+    {
+        for (int n = 0; n < 52; n++)
+        {
+            CHOOSE_2[n] = n * (n - 1) / 2;
+            CHOOSE_3[n] = n * (n - 1) * (n - 2) / 6;
+        }
+
+        for (int c = 2; c < 52; c++)
+        {
+            for (int b = 1; b < c; b++)
+            {
+                for (int a = 0; a < b; a++)
+                {
+                    SCORES[a + CHOOSE_2[b] + CHOOSE_3[c]] = (short) scoreSlowly(a, b, c);
+                }
+            }
+        }
+    }
+
+    private ThreeCardEvaluator()
+    {
+
+    }
+
+    /**
+     * Scores a three-card hand. The cards are only read, never reordered.
+     *
+     * @param card1 The first card.
+     * @param card2 The second card.
+     * @param card3 The third card.
+     * @return The score of the hand.
+     * @throws IllegalArgumentException if a card's value is outside 2–14, or two cards have the same suit and value.
+     */
+    public static int evaluate(Card card1, Card card2, Card card3)
+    {
+        return lookup(position(card1.getSuit(), card1.getValue()),
+                      position(card2.getSuit(), card2.getValue()),
+                      position(card3.getSuit(), card3.getValue()));
+    }
+
+    /**
+     * Scores a three-card hand of encoded cards (see CardCodec).
+     *
+     * @param card1 The first encoded card.
+     * @param card2 The second encoded card.
+     * @param card3 The third encoded card.
+     * @return The score of the hand.
+     * @throws IllegalArgumentException if two cards are the same.
+     */
+    public static int evaluate(byte card1, byte card2, byte card3)
+    {
+        return lookup(position(CardCodec.suit(card1), CardCodec.rank(card1)),
+                      position(CardCodec.suit(card2), CardCodec.rank(card2)),
+                      position(CardCodec.suit(card3), CardCodec.rank(card3)));
+    }
+
+    private static int lookup(int a, int b, int c)
+    {
+        int swap;
+
+        // Sort the three positions so that a < b < c
+        if (a > b)
+        {
+            swap = a;
+            a = b;
+            b = swap;
+        }
+        if (b > c)
+        {
+            swap = b;
+            b = c;
+            c = swap;
+        }
+        if (a > b)
+        {
+            swap = a;
+            a = b;
+            b = swap;
+        }
+
+        // A hand from one deck never holds the same card twice, and the table has no entry for one that does
+        if (a == b || b == c)
+        {
+            throw new IllegalArgumentException("A three-card hand cannot hold the same card twice.");
+        }
+
+        return SCORES[a + CHOOSE_2[b] + CHOOSE_3[c]];
+    }
+
+    private static int position(Suit suit, int value)
+    {
+        if (value < 2 || value > 14)
+        {
+            throw new IllegalArgumentException("Card value must be between 2 and 14, inclusive.");
+        }
+
+        return suit.ordinal() * 13 + value - 2;
+    }
+
+    private static int scoreSlowly(int a, int b, int c)
+    {
+        int value1 = a % 13 + 2;
+        int value2 = b % 13 + 2;
+        int value3 = c % 13 + 2;
+        int high = Math.max(value1, Math.max(value2, value3));
+        int low = Math.min(value1, Math.min(value2, value3));
+        int sum = value1 + value2 + value3;
+
+        boolean flush = a / 13 == b / 13 && b / 13 == c / 13;
+        boolean distinct = value1 != value2 && value2 != value3 && value1 != value3;
+        boolean aceLow = distinct && high == 14 && sum == 14 + 2 + 3;
+        boolean straight = distinct && (high - low == 2 || aceLow);
+
+        if (aceLow)
+        {
+            sum -= 13;
+        }
+
+        if (straight && flush)
+        {
+            return 1000 + sum;
+        }
+        if (value1 == value2 && value2 == value3)
+        {
+            return 800 + sum;
+        }
+        if (straight)
+        {
+            return 600 + sum;
+        }
+        if (flush)
+        {
+            return 400 + sum;
+        }
+        if (!distinct)
+        {
+            return 200 + sum;
+        }
+
+        return 100 + sum;
+    }
+}
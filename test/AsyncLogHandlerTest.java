@@ -0,0 +1,141 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * The test class AsyncLogHandlerTest.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class AsyncLogHandlerTest
+{
+    @Test
+    @DisplayName("Records are written in order by the background thread, and a supplier below the level is never called.")
+    void recordsWrittenInOrderTest()
+    {
+        // Arrange
+        StringWriter output = new StringWriter();
+        AsyncLogHandler handler = new AsyncLogHandler(output, 16, AsyncLogHandler.Overflow.BLOCK);
+        Logger logger = Logger.getLogger("AsyncLogHandlerTest.order");
+        logger.setUseParentHandlers(false);
+        logger.addHandler(handler);
+        logger.setLevel(Level.INFO);
+        boolean[] built = new boolean[1];
+
+        // Act
+        for (int i = 0; i < 100; i++)
+        {
+            int round = i;
+            logger.info(() -> "Round " + round + " completed.");
+        }
+        logger.fine(() ->
+        {
+            built[0] = true;
+            return "Too fine to log";
+        });
+        handler.flush();
+        logger.removeHandler(handler);
+        handler.close();
+
+        // Assert
+        String log = output.toString();
+        assertFalse(built[0]);
+        assertTrue(log.indexOf("Round 0 completed.") < log.indexOf("Round 99 completed."));
+        assertEquals(100, log.split("Round ").length - 1);
+        assertTrue(log.contains("AsyncLogHandlerTest.order"));
+    }
+
+    @Test
+    @DisplayName("A dropping handler discards records instead of waiting while the writer is stuck, and says so later.")
+    void dropWhenFullTest() throws Exception
+    {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        StringWriter output = new StringWriter();
+        Writer stuckWriter = new Writer()
+        {
+            @Override
+            public void write(char[] chars, int offset, int length)
+            {
+                try
+                {
+                    release.await();
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                }
+                output.write(chars, offset, length);
+            }
+
+            @Override
+            public void flush()
+            {
+
+            }
+
+            @Override
+            public void close()
+            {
+
+            }
+        };
+        AsyncLogHandler handler = new AsyncLogHandler(stuckWriter, 4, AsyncLogHandler.Overflow.DROP);
+
+        // Act: the writer holds one batch while the buffer fills up behind it
+        for (int i = 0; i < 1000; i++)
+        {
+            handler.publish(new LogRecord(Level.INFO, "Record " + i));
+        }
+        long dropped = handler.getDroppedCount();
+        release.countDown();
+        handler.flush();
+        handler.publish(new LogRecord(Level.INFO, "After the stall"));
+        handler.close();
+
+        // Assert
+        assertTrue(dropped >= 1000 - 4 - 256);
+        assertTrue(output.toString().contains("Log buffer full: dropped"));
+        assertTrue(output.toString().contains("After the stall"));
+    }
+
+    @Test
+    @DisplayName("Every record the handler takes is written, even when another thread is publishing as it closes.")
+    void closeWhilePublishingTest() throws Exception
+    {
+        // Arrange
+        StringWriter output = new StringWriter();
+        AsyncLogHandler handler = new AsyncLogHandler(output, 64, AsyncLogHandler.Overflow.BLOCK);
+        AtomicInteger taken = new AtomicInteger();
+        handler.setFilter(record -> taken.incrementAndGet() >= 0);
+        CountDownLatch running = new CountDownLatch(1000);
+        Thread publisher = new Thread(() ->
+        {
+            for (int i = 0; !Thread.currentThread().isInterrupted(); i++)
+            {
+                handler.publish(new LogRecord(Level.INFO, "Record " + i));
+                running.countDown();
+            }
+        });
+
+        // Act
+        publisher.start();
+        running.await();
+        handler.close();
+        publisher.interrupt();
+        publisher.join();
+
+        // Assert
+        assertEquals(taken.get(), output.toString().split("INFO: Record ").length - 1);
+    }
+}
@@ -0,0 +1,93 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The test class BasicStrategyTest.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class BasicStrategyTest
+{
+    @Test
+    @DisplayName("The chart makes the textbook plays that don't depend on this table's payouts.")
+    void chartTest()
+    {
+        assertEquals(BlackJackAction.HIT, BasicStrategy.action(BlackJackHandState.hard(9), 10, true));
+        assertEquals(BlackJackAction.STAY, BasicStrategy.action(BlackJackHandState.hard(12), 5, true));
+        assertEquals(BlackJackAction.HIT, BasicStrategy.action(BlackJackHandState.hard(12), 2, true));
+        assertEquals(BlackJackAction.HIT, BasicStrategy.action(BlackJackHandState.hard(16), 7, true));
+        assertEquals(BlackJackAction.SURRENDER, BasicStrategy.action(BlackJackHandState.hard(16), 10, false));
+        assertEquals(BlackJackAction.STAY, BasicStrategy.action(BlackJackHandState.hard(17), 11, false));
+        assertEquals(BlackJackAction.HIT, BasicStrategy.action(BlackJackHandState.soft(17), 7, true));
+        assertEquals(BlackJackAction.STAY, BasicStrategy.action(BlackJackHandState.soft(18), 8, true));
+        assertEquals(BlackJackAction.HIT, BasicStrategy.action(BlackJackHandState.soft(18), 9, true));
+    }
+
+    @Test
+    @DisplayName("A double down that wins one bet but loses two is never worth more than hitting.")
+    void doubleDownPayoutTest()
+    {
+        for (int total = 4; total <= 21; total++)
+        {
+            for (int up = 2; up <= 11; up++)
+            {
+                int state = BlackJackHandState.hard(total);
+
+                assertTrue(BasicStrategy.expectedValue(state, up, BlackJackAction.DOUBLE_DOWN)
+                           <= BasicStrategy.expectedValue(state, up, BlackJackAction.HIT));
+                assertNotEquals(BlackJackAction.DOUBLE_DOWN, BasicStrategy.action(state, up, true));
+            }
+        }
+
+        // Staying on 20 against a 6 only loses to a dealer 21
+        assertTrue(BasicStrategy.expectedValue(BlackJackHandState.hard(20), 6, BlackJackAction.STAY) > 0.6);
+    }
+
+    @Test
+    @DisplayName("Played headlessly, basic strategy loses less than mimicking the dealer.")
+    void simulationTest()
+    {
+        BlackJackSimulation basic = new BlackJackSimulation(
+                new BlackJackDealer(2500, new Shoe(6, 0.75, RandomSource.create("L64X128MixRandom", 9))),
+                BasicStrategy.INSTANCE, 10);
+        BlackJackSimulation mimic = new BlackJackSimulation(
+                new BlackJackDealer(2500, new Shoe(6, 0.75, RandomSource.create("L64X128MixRandom", 9))),
+                BlackJackStrategy.hitBelow(17), 10);
+
+        double basicValue = basic.run(200000, 1000).getExpectedValue();
+        double mimicValue = mimic.run(200000, 1000).getExpectedValue();
+
+        assertTrue(basicValue > mimicValue + 0.01, basicValue + " vs " + mimicValue);
+    }
+
+    @Test
+    @DisplayName("The hint command at the table shows the basic strategy play without taking an action.")
+    void hintCommandTest()
+    {
+        // Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        BlackJackTable table = new BlackJackTable(new PrintStream(output, true, StandardCharsets.UTF_8));
+        table.setDealer(new BlackJackDealer(2500, RandomSource.create("L64X128MixRandom", 1)));
+        table.start();
+        table.step("10");
+        BlackJackPlayer player = table.getPlayer();
+        Card upCard = table.getDealer().getHand().get(1);
+
+        // Act
+        table.step("hint");
+
+        // Assert
+        String transcript = output.toString(StandardCharsets.UTF_8);
+        BlackJackAction expected = BasicStrategy.action(BasicStrategy.stateOf(player.getHand()), upCard.getValue(), true);
+        assertNull(table.getLastOutcome());
+        assertTrue(transcript.endsWith("Basic strategy says: " + expected.getCommand() + "\n"));
+        assertEquals(2, player.getHand().size());
+    }
+}
@@ -98,4 +98,32 @@ public class BlackJackDealerTest
         // Assert
         assertTrue(c1 instanceof Card);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void dealerShoeCutCardTest()
+    {
+        // Arrange - six decks with the cut card three quarters of the way in
+        Shoe shoe = new Shoe(6, 0.75);
+        BlackJackDealer d = new BlackJackDealer(2500, shoe);
+
+        // Act - deal up to just before the cut card
+        for (int i = 0; i < shoe.getCutCard() - 1; i++)
+        {
+            d.deal();
+        }
+
+        // Assert - no shuffle until the cut card comes out, then the whole shoe is back
+        assertFalse(d.shuffleIfCutCardReached());
+        d.deal();
+        assertTrue(d.shuffleIfCutCardReached());
+        assertEquals(312, shoe.cardsLeftInDeck());
+    }
+
+    @Test
+    public void shoeRejectsBadConfigurationTest()
+    {
+        assertThrows(IllegalArgumentException.class, () -> new Shoe(0));
+        assertThrows(IllegalArgumentException.class, () -> new Shoe(9));
+        assertThrows(IllegalArgumentException.class, () -> new Shoe(6, 0));
+    }
+}
@@ -0,0 +1,79 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The test class BlackJackHandStateTest.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class BlackJackHandStateTest
+{
+    @Test
+    @DisplayName("Every hand dealt from a shoe reaches the state that matches BlackJackPlayer's score and Blackjack check.")
+    void transitionsMatchBlackJackPlayerTest()
+    {
+        ByteDeck deck = new ByteDeck(6, RandomSource.create("L64X128MixRandom", 7));
+
+        for (int round = 0; round < 2000; round++)
+        {
+            BlackJackPlayer player = new BlackJackPlayer();
+            int state = BlackJackHandState.EMPTY;
+
+            if (deck.cardsLeftInDeck() < 12)
+            {
+                deck.shuffle();
+            }
+
+            while (!BlackJackHandState.isBust(state) && player.getHand().size() < 11)
+            {
+                byte card = deck.deal();
+
+                player.receiveCard(CardCodec.toBlackJackCard(card), true);
+                state = BlackJackHandState.next(state, card);
+
+                assertEquals(player.hasBlackJack(), BlackJackHandState.isBlackJack(state));
+                assertEquals(player.scoreHand() > 21, BlackJackHandState.isBust(state));
+                assertEquals(Math.min(player.scoreHand(), 22), BlackJackHandState.total(state));
+
+                if (!BlackJackHandState.isBust(state))
+                {
+                    assertEquals(player.isSoft(), BlackJackHandState.isSoft(state));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("settle() ranks Blackjacks, busts and totals in the same order as BlackJackTable.scoreGame().")
+    void settleTest()
+    {
+        int twenty = BlackJackHandState.next(BlackJackHandState.next(BlackJackHandState.EMPTY, 10), 10);
+        int seventeen = BlackJackHandState.next(BlackJackHandState.next(BlackJackHandState.EMPTY, 10), 7);
+
+        assertEquals(1, BlackJackHandState.settle(BlackJackHandState.BLACKJACK, BlackJackHandState.BLACKJACK));
+        assertEquals(-1, BlackJackHandState.settle(twenty, BlackJackHandState.BLACKJACK));
+        assertEquals(-1, BlackJackHandState.settle(BlackJackHandState.BUST, seventeen));
+        assertEquals(1, BlackJackHandState.settle(seventeen, BlackJackHandState.BUST));
+        assertEquals(1, BlackJackHandState.settle(twenty, seventeen));
+        assertEquals(0, BlackJackHandState.settle(twenty, twenty));
+    }
+
+    @Test
+    @DisplayName("playRound() rejects a stand-on total that a hand could never reach.")
+    void invalidStandOnTest()
+    {
+        // Arrange
+        ByteDeck deck = new ByteDeck(1, RandomSource.create("L64X128MixRandom", 7));
+
+        // Act / Assert
+        assertThrows(IllegalArgumentException.class, () -> BlackJackHandState.playRound(deck, 23));
+        assertThrows(IllegalArgumentException.class, () -> BlackJackHandState.playRound(deck, 1));
+
+        // Hitting until bust only wins with a Blackjack dealt
+        int result = BlackJackHandState.playRound(deck, 22);
+        assertTrue(result == -1 || result == 1);
+    }
+}
@@ -0,0 +1,59 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The test class BlackJackSelectorServerTest.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class BlackJackSelectorServerTest
+{
+    @Test
+    @DisplayName("One event loop plays many connections at once, including commands split across packets.")
+    void concurrentSessionsTest() throws Exception
+    {
+        try (BlackJackSelectorServer server = new BlackJackSelectorServer(0))
+        {
+            // Arrange
+            server.start();
+            Socket[] sockets = new Socket[20];
+
+            for (int i = 0; i < sockets.length; i++)
+            {
+                sockets[i] = new Socket("localhost", server.getPort());
+                sockets[i].setSoTimeout(10000);
+            }
+
+            // Act: the bet arrives in two pieces, and the rest of the session in a third
+            for (Socket socket : sockets)
+            {
+                OutputStream output = socket.getOutputStream();
+
+                output.write("1".getBytes(StandardCharsets.UTF_8));
+                output.flush();
+            }
+            for (Socket socket : sockets)
+            {
+                socket.getOutputStream().write("0\r\nstay\nno\n".getBytes(StandardCharsets.UTF_8));
+            }
+
+            // Assert: each session ends and closes its connection on its own
+            for (Socket socket : sockets)
+            {
+                String transcript = new String(socket.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+
+                assertTrue(transcript.startsWith("Welcome to the game!"));
+                assertTrue(transcript.contains("You bet $10"));
+                assertTrue(transcript.endsWith("Thanks for playing!\n"));
+                socket.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The test class BlackJackServerTest.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class BlackJackServerTest
+{
+    // A bet, then "stay", then "no" at the next-round prompt; after a Blackjack the "stay" is just rejected
+    private static final String ONE_ROUND = "10\nstay\nno\n";
+
+    @Test
+    @DisplayName("A table on streams plays a round and returns from play() when the player leaves.")
+    void tableOnStreamsTest()
+    {
+        // Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        BlackJackTable table = new BlackJackTable(new ByteArrayInputStream(ONE_ROUND.getBytes(StandardCharsets.UTF_8)),
+                                                  new PrintStream(output, true, StandardCharsets.UTF_8));
+
+        // Act
+        table.play();
+
+        // Assert
+        String transcript = output.toString(StandardCharsets.UTF_8);
+        assertTrue(transcript.contains("You bet $10"));
+        assertTrue(transcript.contains("Thanks for playing!"));
+        assertEquals(0, table.getPot());
+    }
+
+    @Test
+    @DisplayName("The server runs a separate table for each connection at the same time.")
+    void concurrentSessionsTest() throws Exception
+    {
+        try (BlackJackServer server = new BlackJackServer(0))
+        {
+            // Arrange
+            server.start();
+
+            try (Socket first = new Socket("localhost", server.getPort());
+                 Socket second = new Socket("localhost", server.getPort()))
+            {
+                first.setSoTimeout(10000);
+                second.setSoTimeout(10000);
+
+                // Act
+                first.getOutputStream().write(ONE_ROUND.getBytes(StandardCharsets.UTF_8));
+                second.getOutputStream().write(ONE_ROUND.getBytes(StandardCharsets.UTF_8));
+
+                // Assert: each session ends and closes its connection on its own
+                for (Socket socket : new Socket[] { first, second })
+                {
+                    String transcript = new String(socket.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+
+                    assertTrue(transcript.startsWith("Welcome to the game!"));
+                    assertTrue(transcript.contains("Thanks for playing!"));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The test class BlackJackSimulationTest.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class BlackJackSimulationTest
+{
+    @Test
+    @DisplayName("Every simulated round is counted once as a win, loss or push, and the bankroll curve tracks the net.")
+    void simulationTotalsTest()
+    {
+        BlackJackDealer dealer = new BlackJackDealer(2500, new Shoe(6, 0.75, RandomSource.create("L64X128MixRandom", 3)));
+        BlackJackSimulation simulation = new BlackJackSimulation(dealer, BlackJackStrategy.hitBelow(17), 10);
+
+        SimulationStats stats = simulation.run(100000, 1000);
+        long[] curve = stats.getBankrollCurve();
+
+        assertEquals(100000, stats.getRounds());
+        assertEquals(stats.getRounds(), stats.getWins() + stats.getLosses() + stats.getPushes());
+        assertEquals(100, curve.length);
+        assertEquals(stats.getNet(), curve[curve.length - 1]);
+
+        // Mimicking the dealer loses a few percent per hand
+        assertTrue(stats.getExpectedValue() < 0 && stats.getExpectedValue() > -0.2);
+    }
+
+    @Test
+    @DisplayName("A strategy that always surrenders gets half of every bet back, except against Blackjacks.")
+    void simulationSurrenderTest()
+    {
+        BlackJackDealer dealer = new BlackJackDealer(2500, RandomSource.create("SplittableRandom", 5));
+        BlackJackSimulation simulation = new BlackJackSimulation(dealer,
+                (player, dealerUpCard, canDoubleDown) -> BlackJackAction.SURRENDER, 10);
+
+        SimulationStats stats = simulation.run(1000, 1000);
+
+        long dealerBlackJacks = stats.getLosses() - stats.getSurrenders();
+
+        assertEquals(0, stats.getPushes());
+        assertEquals(stats.getBlackJacks(), stats.getWins());
+        assertEquals(10 * stats.getWins() - 10 * dealerBlackJacks - 5 * stats.getSurrenders(), stats.getNet());
+    }
+
+    @Test
+    @DisplayName("A parallel run plays every round once and gives the same results each time it's run with the same seed.")
+    void parallelSimulationTest()
+    {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        ParallelSimulation simulation = new ParallelSimulation(pool, 6, 0.75, BlackJackStrategy.hitBelow(17), 10);
+
+        SimulationStats first = simulation.run(200000, 1000, RandomSource.create("L64X128MixRandom", 11));
+        SimulationStats second = simulation.run(200000, 1000, RandomSource.create("L64X128MixRandom", 11));
+        long[] curve = first.getBankrollCurve();
+
+        pool.shutdown();
+
+        assertEquals(200000, first.getRounds());
+        assertEquals(first.getRounds(), first.getWins() + first.getLosses() + first.getPushes());
+        assertEquals(first.getNet(), second.getNet());
+        assertEquals(first.getWins(), second.getWins());
+        assertEquals(200, curve.length);
+        assertEquals(first.getNet(), curve[curve.length - 1]);
+    }
+}
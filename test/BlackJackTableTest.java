@@ -2,6 +2,15 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -57,10 +66,10 @@ public class BlackJackTableTest
         int playerStartStash = player.getStash();
         int dealerStartStash = dealer.getStash();
         
-        player.receiveCard(new Card(Suit.values()[1], 11, true, "Ace"), true);
-        player.receiveCard(new Card(Suit.values()[1], 2, true, "2"), true);
-        dealer.receiveCard(new Card(Suit.values()[2], 11, true, "Ace"), false); // First card face down
-        dealer.receiveCard(new Card(Suit.values()[2], 10, true, "10"), true);
+        player.receiveCard(new Card(Suit.values()[1], 11, "Ace"), true);
+        player.receiveCard(new Card(Suit.values()[1], 2, "2"), true);
+        dealer.receiveCard(new Card(Suit.values()[2], 11, "Ace"), false); // First card face down
+        dealer.receiveCard(new Card(Suit.values()[2], 10, "10"), true);
         
         // Act
         player.setStash(player.getStash() - 10);
@@ -81,10 +90,10 @@ public class BlackJackTableTest
         int playerStartStash = player.getStash();
         int dealerStartStash = dealer.getStash();
         
-        player.receiveCard(new Card(Suit.values()[1], 11, true, "Ace"), true);
-        player.receiveCard(new Card(Suit.values()[1], 10, true, "10"), true);
-        dealer.receiveCard(new Card(Suit.values()[2], 11, true, "Ace"), false); // First card face down
-        dealer.receiveCard(new Card(Suit.values()[2], 2, true, "2"), true);
+        player.receiveCard(new Card(Suit.values()[1], 11, "Ace"), true);
+        player.receiveCard(new Card(Suit.values()[1], 10, "10"), true);
+        dealer.receiveCard(new Card(Suit.values()[2], 11, "Ace"), false); // First card face down
+        dealer.receiveCard(new Card(Suit.values()[2], 2, "2"), true);
         
         // Act
         player.setStash(player.getStash() - 10);
@@ -105,10 +114,10 @@ public class BlackJackTableTest
         int playerStartStash = player.getStash();
         int dealerStartStash = dealer.getStash();
         
-        player.receiveCard(new Card(Suit.values()[1], 11, true, "Ace"), true);
-        player.receiveCard(new Card(Suit.values()[1], 2, true, "2"), true);
-        dealer.receiveCard(new Card(Suit.values()[2], 11, true, "Ace"), false); // First card face down
-        dealer.receiveCard(new Card(Suit.values()[2], 6, true, "6"), true);
+        player.receiveCard(new Card(Suit.values()[1], 11, "Ace"), true);
+        player.receiveCard(new Card(Suit.values()[1], 2, "2"), true);
+        dealer.receiveCard(new Card(Suit.values()[2], 11, "Ace"), false); // First card face down
+        dealer.receiveCard(new Card(Suit.values()[2], 6, "6"), true);
         
         // Act
         player.setStash(player.getStash() - 10);
@@ -129,10 +138,10 @@ public class BlackJackTableTest
         int playerStartStash = player.getStash();
         int dealerStartStash = dealer.getStash();
         
-        player.receiveCard(new Card(Suit.values()[1], 11, true, "Ace"), true);
-        player.receiveCard(new Card(Suit.values()[1], 6, true, "6"), true);
-        dealer.receiveCard(new Card(Suit.values()[2], 11, true, "Ace"), false); // First card face down
-        dealer.receiveCard(new Card(Suit.values()[2], 2, true, "2"), true);
+        player.receiveCard(new Card(Suit.values()[1], 11, "Ace"), true);
+        player.receiveCard(new Card(Suit.values()[1], 6, "6"), true);
+        dealer.receiveCard(new Card(Suit.values()[2], 11, "Ace"), false); // First card face down
+        dealer.receiveCard(new Card(Suit.values()[2], 2, "2"), true);
         
         // Act
         player.setStash(player.getStash() - 10);
@@ -153,12 +162,12 @@ public class BlackJackTableTest
         int playerStartStash = player.getStash();
         int dealerStartStash = dealer.getStash();
         
-        player.receiveCard(new Card(Suit.values()[1], 11, true, "Ace"), true);
-        player.receiveCard(new Card(Suit.values()[1], 6, true, "6"), true);
-        player.receiveCard(new Card(Suit.values()[1], 2, true, "2"), true);
-        dealer.receiveCard(new Card(Suit.values()[2], 11, true, "Ace"), false);
-        dealer.receiveCard(new Card(Suit.values()[2], 6, true, "6"), true);
-        dealer.receiveCard(new Card(Suit.values()[2], 2, true, "2"), true);
+        player.receiveCard(new Card(Suit.values()[1], 11, "Ace"), true);
+        player.receiveCard(new Card(Suit.values()[1], 6, "6"), true);
+        player.receiveCard(new Card(Suit.values()[1], 2, "2"), true);
+        dealer.receiveCard(new Card(Suit.values()[2], 11, "Ace"), false);
+        dealer.receiveCard(new Card(Suit.values()[2], 6, "6"), true);
+        dealer.receiveCard(new Card(Suit.values()[2], 2, "2"), true);
 
         // Act
         player.setStash(player.getStash() - 10);
@@ -193,12 +202,12 @@ public class BlackJackTableTest
         int playerStartStash = player.getStash();
         int dealerStartStash = dealer.getStash();
         
-        player.receiveCard(new Card(Suit.values()[1], 11, true, "Ace"), true);
-        player.receiveCard(new Card(Suit.values()[1], 6, true, "6"), true);
-        player.receiveCard(new Card(Suit.values()[1], 2, true, "2"), true);
-        dealer.receiveCard(new Card(Suit.values()[2], 11, true, "Ace"), false);
-        dealer.receiveCard(new Card(Suit.values()[2], 6, true, "6"), true);
-        dealer.receiveCard(new Card(Suit.values()[2], 2, true, "2"), true);
+        player.receiveCard(new Card(Suit.values()[1], 11, "Ace"), true);
+        player.receiveCard(new Card(Suit.values()[1], 6, "6"), true);
+        player.receiveCard(new Card(Suit.values()[1], 2, "2"), true);
+        dealer.receiveCard(new Card(Suit.values()[2], 11, "Ace"), false);
+        dealer.receiveCard(new Card(Suit.values()[2], 6, "6"), true);
+        dealer.receiveCard(new Card(Suit.values()[2], 2, "2"), true);
 
         // Act - dealr goes all-in because can't match 200
         player.setStash(player.getStash() - 200);
@@ -232,11 +241,11 @@ public class BlackJackTableTest
         int playerStartStash = player.getStash();
         int dealerStartStash = dealer.getStash();
         
-        player.receiveCard(new Card(Suit.values()[1], 10, true, "King"), true);
-        player.receiveCard(new Card(Suit.values()[1], 10, true, "Queen"), true);
-        player.receiveCard(new Card(Suit.values()[1], 6, true, "6"), true);
-        dealer.receiveCard(new Card(Suit.values()[2], 11, true, "Ace"), false); // First card face down
-        dealer.receiveCard(new Card(Suit.values()[2], 6, true, "6"), true);
+        player.receiveCard(new Card(Suit.values()[1], 10, "King"), true);
+        player.receiveCard(new Card(Suit.values()[1], 10, "Queen"), true);
+        player.receiveCard(new Card(Suit.values()[1], 6, "6"), true);
+        dealer.receiveCard(new Card(Suit.values()[2], 11, "Ace"), false); // First card face down
+        dealer.receiveCard(new Card(Suit.values()[2], 6, "6"), true);
         
         // Act
         player.setStash(player.getStash() - 10);
@@ -257,11 +266,11 @@ public class BlackJackTableTest
         int playerStartStash = player.getStash();
         int dealerStartStash = dealer.getStash();
         
-        player.receiveCard(new Card(Suit.values()[1], 11, true, "Ace"), true);
-        player.receiveCard(new Card(Suit.values()[1], 6, true, "6"), true);
-        dealer.receiveCard(new Card(Suit.values()[2], 10, true, "King"), false); // First card face down
-        player.receiveCard(new Card(Suit.values()[2], 10, true, "Queen"), true);
-        dealer.receiveCard(new Card(Suit.values()[2], 6, true, "6"), true);
+        player.receiveCard(new Card(Suit.values()[1], 11, "Ace"), true);
+        player.receiveCard(new Card(Suit.values()[1], 6, "6"), true);
+        dealer.receiveCard(new Card(Suit.values()[2], 10, "King"), false); // First card face down
+        player.receiveCard(new Card(Suit.values()[2], 10, "Queen"), true);
+        dealer.receiveCard(new Card(Suit.values()[2], 6, "6"), true);
         
         // Act
         player.setStash(player.getStash() - 10);
@@ -273,4 +282,107 @@ public class BlackJackTableTest
         // Assert
         assertTrue(player.getStash() == (playerStartStash + 10));
     }
+
+    // Step through a game one line at a time
+    @Test
+    public void stepTableTest()
+    {
+        // Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        BlackJackTable steppedTable = new BlackJackTable(new PrintStream(output, true, StandardCharsets.UTF_8));
+        
+        // Act
+        steppedTable.start();
+        steppedTable.step("ten");
+        boolean overAfterBadBet = steppedTable.isOver();
+        steppedTable.step("10");
+        steppedTable.step("stay"); // Rejected at the next-round prompt if either side had a Blackjack
+        steppedTable.step("no");
+
+        // Assert
+        String transcript = output.toString(StandardCharsets.UTF_8);
+        assertFalse(overAfterBadBet);
+        assertTrue(transcript.contains("Please enter a whole number without any characters"));
+        assertTrue(transcript.contains("You bet $10"));
+        assertTrue(transcript.endsWith("Thanks for playing!\n"));
+        assertTrue(steppedTable.isOver());
+        assertThrows(IllegalStateException.class, () -> steppedTable.step("yes"));
+    }
+
+    // Play a game to the end, reset the table and play it again
+    @Test
+    public void playResetAndPlayAgainTest()
+    {
+        // Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        byte[] twoGames = "10\nstay\nno\n10\nstay\nno\n".getBytes(StandardCharsets.UTF_8);
+        BlackJackTable replayedTable = new BlackJackTable(new ByteArrayInputStream(twoGames),
+                                                          new PrintStream(output, true, StandardCharsets.UTF_8));
+
+        // Act
+        GameResult first = replayedTable.play();
+        replayedTable.reset();
+        boolean overAfterReset = replayedTable.isOver();
+        GameResult resetResult = replayedTable.getResult();
+        int stashAfterReset = replayedTable.getPlayer().getStash();
+        GameResult second = replayedTable.play();
+
+        // Assert
+        assertEquals(GameResult.Ending.PLAYER_LEFT, first.getEnding());
+        assertEquals(1, first.getExitStatus());
+        assertEquals(1, first.getRounds());
+        assertEquals(3000, first.getPlayerStash() + first.getDealerStash());
+        assertFalse(overAfterReset);
+        assertNull(resetResult);
+        assertEquals(500, stashAfterReset);
+        assertEquals(GameResult.Ending.PLAYER_LEFT, second.getEnding());
+        assertEquals(1, second.getRounds());
+        assertTrue(second == replayedTable.getResult());
+    }
+
+    // Input that ends in the middle of a game ends the game instead of throwing
+    @Test
+    public void inputEndedTest()
+    {
+        // Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        byte[] oneBet = "10\n".getBytes(StandardCharsets.UTF_8);
+        BlackJackTable cutShortTable = new BlackJackTable(new ByteArrayInputStream(oneBet),
+                                                          new PrintStream(output, true, StandardCharsets.UTF_8));
+
+        // Act
+        GameResult result = cutShortTable.play();
+
+        // Assert
+        assertTrue(cutShortTable.isOver());
+        assertEquals(GameResult.Ending.INPUT_ENDED, result.getEnding());
+        assertEquals(1, result.getExitStatus());
+    }
+
+    // Step through a game from one reused buffer, as the selector server does
+    @Test
+    public void stepFromReusedBufferTest()
+    {
+        // Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        BlackJackTable steppedTable = new BlackJackTable(new PrintStream(output, true, StandardCharsets.UTF_8));
+        StringBuilder line = new StringBuilder();
+
+        // Act
+        steppedTable.start();
+        line.append(" 10 ");
+        steppedTable.step(line);
+        line.setLength(0);
+        line.append("STAY");
+        steppedTable.step(line); // Rejected at the next-round prompt if either side had a Blackjack
+        line.setLength(0);
+        line.append(" No\r");
+        steppedTable.step(line);
+
+        // Assert
+        String transcript = output.toString(StandardCharsets.UTF_8);
+        assertTrue(transcript.contains("You bet $10"));
+        assertTrue(steppedTable.isOver());
+        assertEquals(GameResult.Ending.PLAYER_LEFT, steppedTable.getResult().getEnding());
+    }
 }
@@ -0,0 +1,88 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The test class CardCodecTest.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class CardCodecTest
+{
+    @Test
+    @DisplayName("Every card survives being encoded to a byte and decoded back to the shared Card instance.")
+    void encodeDecodeTest()
+    {
+        for (Suit suit : Suit.values())
+        {
+            for (int rank = 2; rank <= 14; rank++)
+            {
+                byte b = CardCodec.encode(Card.of(suit, rank));
+
+                assertSame(Card.of(suit, rank), CardCodec.toCard(b));
+                assertSame(Card.ofBlackJack(suit, rank), CardCodec.toBlackJackCard(b));
+                assertNotEquals(CardCodec.NO_CARD, b);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("compare() orders encoded cards the same way CardComparator orders the cards they stand for.")
+    void compareMatchesCardComparatorTest()
+    {
+        CardComparator cardComparator = new CardComparator();
+        Card c1 = Card.of(Suit.Clubs, 11);
+        Card c2 = Card.of(Suit.Diamonds, 6);
+        Card c3 = Card.of(Suit.Spades, 11);
+
+        assertEquals(cardComparator.compare(c1, c2), CardCodec.compare(CardCodec.encode(c1), CardCodec.encode(c2)));
+        assertEquals(cardComparator.compare(c1, c3), CardCodec.compare(CardCodec.encode(c1), CardCodec.encode(c3)));
+        assertEquals(0, CardCodec.compare(CardCodec.encode(c1), CardCodec.encode(c1)));
+    }
+
+    @Test
+    @DisplayName("A ByteDeck deals every one of its cards exactly once and then reports it is empty.")
+    void byteDeckDealTest()
+    {
+        ByteDeck deck = new ByteDeck(2);
+        int[] seen = new int[64];
+
+        for (int i = 0; i < 104; i++)
+        {
+            seen[deck.deal()]++;
+        }
+
+        for (Suit suit : Suit.values())
+        {
+            for (int rank = 2; rank <= 14; rank++)
+            {
+                assertEquals(2, seen[CardCodec.encode(suit, rank)]);
+            }
+        }
+
+        assertEquals(0, deck.cardsLeftInDeck());
+        assertEquals(CardCodec.NO_CARD, deck.deal());
+    }
+
+    @Test
+    @DisplayName("A ByteHand scores soft and hard Blackjack totals the same way the rules do.")
+    void byteHandScoreTest()
+    {
+        ByteHand hand = new ByteHand();
+
+        hand.add(CardCodec.encode(Suit.Clubs, 14));
+        hand.add(CardCodec.encode(Suit.Hearts, 13));
+        assertEquals(21, hand.scoreBlackJack());
+        assertTrue(hand.hasBlackJack());
+
+        hand.add(CardCodec.encode(Suit.Spades, 14));
+        hand.add(CardCodec.encode(Suit.Spades, 9));
+        assertEquals(21, hand.scoreBlackJack());
+        assertFalse(hand.hasBlackJack());
+
+        hand.clear();
+        assertEquals(0, hand.size());
+    }
+}
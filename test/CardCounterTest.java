@@ -0,0 +1,157 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * The test class CardCounterTest.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class CardCounterTest
+{
+    @Test
+    @DisplayName("Face-up cards are counted when dealt, and a hole card only once it is shown.")
+    void holeCardTest()
+    {
+        // Arrange
+        Shoe shoe = new Shoe(1);
+        BlackJackDealer dealer = new BlackJackDealer(2500, shoe);
+        BlackJackPlayer player = new BlackJackPlayer("Player", 500);
+        CardCounter counter = dealer.getCounter();
+
+        shoe.setCards(List.of(Card.ofBlackJack(Suit.Hearts, 5), Card.ofBlackJack(Suit.Spades, 13),
+                              Card.ofBlackJack(Suit.Clubs, 9), Card.ofBlackJack(Suit.Diamonds, 4),
+                              Card.ofBlackJack(Suit.Hearts, 14), Card.ofBlackJack(Suit.Hearts, 2)));
+        player.setCounter(counter);
+
+        // Act
+        player.receiveCard(dealer.deal(), true);
+        dealer.receiveCard(dealer.deal(), false);
+        player.receiveCard(dealer.deal(), true);
+        dealer.receiveCard(dealer.deal(), true);
+
+        // Assert - 5, 9 and 4 are counted, the King isn't yet
+        assertEquals(2, counter.getRunningCount(CountingSystem.HI_LO));
+        assertEquals(2, counter.getRunningCount(CountingSystem.KO));
+        assertEquals(3, counter.getRunningCount(CountingSystem.OMEGA_II));
+        assertEquals(3, counter.getCardsSeen());
+        assertEquals(2, counter.getCardsRemaining());
+
+        dealer.showAllCards();
+        dealer.showAllCards();
+
+        assertEquals(1, counter.getRunningCount(CountingSystem.HI_LO));
+        assertEquals(1, counter.getRunningCount(CountingSystem.OMEGA_II));
+        assertEquals(4, counter.getCardsSeen());
+
+        // Fewer than half a deck left counts as half a deck
+        assertEquals(2.0, counter.getTrueCount(CountingSystem.HI_LO), 1e-12);
+    }
+
+    @Test
+    @DisplayName("A Blackjack Ace built with the Card constructor counts as an Ace, not as a Jack.")
+    void constructedAceTest()
+    {
+        // Arrange
+        CardCounter counter = new CardCounter(new Shoe(1));
+        Card ace = new Card(Suit.Spades, 11, "Ace");
+        Card queen = new Card(Suit.Hearts, 10, "Queen");
+
+        // Act
+        counter.count(ace);
+        counter.count(queen);
+
+        // Assert - Omega II tags an Ace 0 but a Jack or Queen -2
+        assertEquals(14, ace.getRank());
+        assertEquals(12, queen.getRank());
+        assertEquals(-2, counter.getRunningCount(CountingSystem.HI_LO));
+        assertEquals(-2, counter.getRunningCount(CountingSystem.OMEGA_II));
+    }
+
+    @Test
+    @DisplayName("Shuffling starts the count over, with KO starting below zero in a multi-deck shoe.")
+    void resetTest()
+    {
+        // Arrange
+        BlackJackDealer dealer = new BlackJackDealer(2500, new Shoe(6, 0.75, RandomSource.create("L64X128MixRandom", 4)));
+        CardCounter counter = dealer.getCounter();
+
+        // Act
+        assertEquals(-20, counter.getRunningCount(CountingSystem.KO));
+
+        for (int i = 0; i < 100; i++)
+        {
+            dealer.receiveCard(dealer.deal(), true);
+        }
+        int seen = counter.getCardsSeen();
+        dealer.resetDeck();
+
+        // Assert
+        assertEquals(100, seen);
+        assertEquals(0, counter.getCardsSeen());
+        assertEquals(0, counter.getRunningCount(CountingSystem.HI_LO));
+        assertEquals(-20, counter.getRunningCount(CountingSystem.KO));
+        assertEquals(312, counter.getCardsRemaining());
+    }
+
+    @Test
+    @DisplayName("Counting a whole shoe brings the balanced systems back to zero and KO to +4.")
+    void wholeShoeTest()
+    {
+        // Arrange
+        BlackJackDealer dealer = new BlackJackDealer(2500, new Shoe(2, 0.75, RandomSource.create("L64X128MixRandom", 5)));
+        CardCounter counter = dealer.getCounter();
+
+        // Act
+        for (int i = 0; i < 104; i++)
+        {
+            counter.count(dealer.deal());
+        }
+
+        // Assert
+        assertEquals(0, counter.getRunningCount(CountingSystem.HI_LO));
+        assertEquals(0, counter.getRunningCount(CountingSystem.OMEGA_II));
+        assertEquals(4, counter.getRunningCount(CountingSystem.KO));
+        assertEquals(0, counter.getCardsRemaining());
+    }
+
+    @Test
+    @DisplayName("A table counts every card in both hands once the round is over.")
+    void tableTest()
+    {
+        // Arrange
+        BlackJackTable table = new BlackJackTable(new PrintStream(OutputStream.nullOutputStream()));
+        BlackJackDealer dealer = new BlackJackDealer(2500, RandomSource.create("L64X128MixRandom", 6));
+
+        table.setDealer(dealer);
+        table.start();
+
+        // Act
+        table.step("10");
+        if (table.getLastOutcome() == null)
+        {
+            table.step("stay");
+        }
+
+        // Assert
+        int expected = 0;
+
+        for (Card card : table.getPlayer().getHand())
+        {
+            expected += CountingSystem.HI_LO.tag(card.getRank());
+        }
+        for (Card card : dealer.getHand())
+        {
+            expected += CountingSystem.HI_LO.tag(card.getRank());
+        }
+
+        assertEquals(expected, dealer.getCounter().getRunningCount(CountingSystem.HI_LO));
+        assertEquals(table.getPlayer().getHand().size() + dealer.getHand().size(), dealer.getCounter().getCardsSeen());
+    }
+}
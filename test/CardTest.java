@@ -44,7 +44,7 @@ public class CardTest
         Card c1;
         
         // Act
-        c1 = new Card(Suit.Clubs, 10, true, "Queen");
+        c1 = new Card(Suit.Clubs, 10, "Queen");
         
         // Assert
         assertEquals(c1.getSuit(), Suit.Clubs);
@@ -54,27 +54,47 @@ public class CardTest
     }
     
     @Test
-    public void cardShowHideTest()
+    @DisplayName("Card.of() always returns the same shared instance for a suit and rank.")
+    public void cardOfTest()
     {
         // Arrange
-        Card c1 = new Card(Suit.Clubs, 10, true, "Jack");
-        Card c2 = new Card(Suit.Clubs, 10, false, "Jack");
-        
+        Card c1 = Card.of(Suit.Clubs, 12);
+        Card c2 = Card.of(Suit.Clubs, 12);
+        Card c3 = Card.ofBlackJack(Suit.Clubs, 12);
+
+        // Assert
+        assertSame(c1, c2);
+        assertEquals(12, c1.getValue());
+        assertEquals("Queen", c1.getName());
+        assertEquals(10, c3.getValue());
+        assertEquals(12, c3.getRank());
+        assertNotEquals(c1, c3);
+    }
+
+    @Test
+    @DisplayName("A hidden card stays hidden in one hand while the same card is face-up in another.")
+    public void cardVisibilityBelongsToHandTest()
+    {
+        // Arrange
+        Card c1 = Card.ofBlackJack(Suit.Spades, 14);
+        Player p1 = new BlackJackPlayer();
+        Player p2 = new BlackJackPlayer();
+
         // Act
-        c1.hide();
-        c2.show();
-        
+        p1.receiveCard(c1, false);
+        p2.receiveCard(c1, true);
+
         // Assert
-        assertFalse(c1.isVisible());
-        assertTrue(c2.isVisible());
+        assertFalse(p1.isCardVisible(0));
+        assertTrue(p2.isCardVisible(0));
     }
 
     @Test
     @DisplayName("Two different cards will have different hash number.")
     void hashCodeDoesntEqualTest()
     {
-        Card c1 = new Card(Suit.Clubs, 10, true, "Jack");
-        Card c2 = new Card(Suit.Spades, 10, true, "Queen");
+        Card c1 = new Card(Suit.Clubs, 10, "Jack");
+        Card c2 = new Card(Suit.Spades, 10, "Queen");
 
         int result1 = c1.hashCode();
         int result2 = c2.hashCode();
@@ -86,8 +106,8 @@ public class CardTest
     @DisplayName("Two identical cards will always have the same hash number.")
     void hashCodeEqualsTest()
     {
-        Card c1 = new Card(Suit.Clubs, 10, true, "Jack");
-        Card c2 = new Card(Suit.Clubs, 10, true, "Jack");
+        Card c1 = new Card(Suit.Clubs, 10, "Jack");
+        Card c2 = new Card(Suit.Clubs, 10, "Jack");
 
         int result1 = c1.hashCode();
         int result2 = c2.hashCode();
@@ -99,8 +119,8 @@ public class CardTest
     @DisplayName("compareTo() returns zero whenever the card being compared is of the same value.")
     void compareToEqualsTest()
     {
-        Card c1 = new Card(Suit.Clubs, 10, true, "Jack");
-        Card c2 = new Card(Suit.Clubs, 10, true, "Jack");
+        Card c1 = new Card(Suit.Clubs, 10, "Jack");
+        Card c2 = new Card(Suit.Clubs, 10, "Jack");
 
         assertEquals(0, c1.compareTo(c2));
     }
@@ -109,8 +129,8 @@ public class CardTest
     @DisplayName("compareTo() returns the difference in the value whenever the card being compared is not the same value")
     void compareToDoesntEqualTest()
     {
-        Card c1 = new Card(Suit.Clubs, 10, true, "Jack");
-        Card c2 = new Card(Suit.Clubs, 7, true, "Seven");
+        Card c1 = new Card(Suit.Clubs, 10, "Jack");
+        Card c2 = new Card(Suit.Clubs, 7, "Seven");
 
         assertEquals(3, c1.compareTo(c2));
     }
@@ -119,8 +139,8 @@ public class CardTest
     @DisplayName("equals() always returns true if two cards have the same suit, value and name.")
     void equalsTrueTest()
     {
-        Card c1 = new Card(Suit.Clubs, 10, true, "Jack");
-        Card c2 = new Card(Suit.Clubs, 10, true, "Jack");
+        Card c1 = new Card(Suit.Clubs, 10, "Jack");
+        Card c2 = new Card(Suit.Clubs, 10, "Jack");
 
         assertTrue(c1.equals(c2));
     }
@@ -129,8 +149,8 @@ public class CardTest
     @DisplayName("equals() always returns false if any two cards do not have the same suit, value and name.")
     void equalsFalseTest()
     {
-        Card c1 = new Card(Suit.Clubs, 10, true, "Jack");
-        Card c2 = new Card(Suit.Spades, 10, true, "Jack");
+        Card c1 = new Card(Suit.Clubs, 10, "Jack");
+        Card c2 = new Card(Suit.Spades, 10, "Jack");
 
         assertFalse(c1.equals(c2));
     }
@@ -0,0 +1,138 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * The test class DealerOutcomeCalculatorTest.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class DealerOutcomeCalculatorTest
+{
+    @Test
+    @DisplayName("A tiny shoe gives the exact chances of every way the dealer's hand can go.")
+    void exactCompositionTest()
+    {
+        // Arrange
+        DealerOutcomeCalculator calculator = new DealerOutcomeCalculator();
+        int[] composition = new int[12];
+
+        composition[10] = 1;
+        composition[11] = 1;
+
+        // Act
+        double[] distribution = calculator.distribution(composition, 10);
+
+        // Assert - the hole card is the Ace or the ten, equally likely
+        assertEquals(0.5, distribution[DealerOutcomeCalculator.BLACKJACK], 1e-12);
+        assertEquals(0.5, distribution[20 - 17], 1e-12);
+        assertEquals(1.0, DealerOutcomeCalculator.withoutBlackJack(distribution)[20 - 17], 1e-12);
+
+        // A 6 with a 5 and a ten left always draws to 21, in either order
+        composition[11] = 0;
+        composition[5] = 1;
+        assertEquals(1.0, calculator.distribution(composition, 6)[21 - 17], 1e-12);
+    }
+
+    @Test
+    @DisplayName("The chances for a full shoe add up to 1 and match the textbook dealer bust rates.")
+    void fullShoeTest()
+    {
+        // Arrange
+        DealerOutcomeCalculator calculator = new DealerOutcomeCalculator();
+        int[] composition = DealerOutcomeCalculator.composition(new Shoe(6).getCards());
+
+        for (int up = 2; up <= 11; up++)
+        {
+            // Act
+            composition[up]--;
+            double[] distribution = calculator.distribution(composition, up);
+            composition[up]++;
+
+            // Assert
+            double total = 0;
+
+            for (double chance : distribution)
+            {
+                total += chance;
+            }
+            assertEquals(1.0, total, 1e-9);
+        }
+
+        // A dealer 6 busts about 42% of the time, an Ace has a Blackjack about 31% of the time
+        composition[6]--;
+        assertEquals(0.42, calculator.distribution(composition, 6)[DealerOutcomeCalculator.BUST], 0.01);
+        composition[6]++;
+        composition[11]--;
+        assertEquals(0.31, calculator.distribution(composition, 11)[DealerOutcomeCalculator.BLACKJACK], 0.01);
+    }
+
+    @Test
+    @DisplayName("The player's view of a dealer counts the hole card as unknown and reuses cached work.")
+    void dealerViewTest()
+    {
+        // Arrange
+        Shoe shoe = new Shoe(1);
+        BlackJackDealer dealer = new BlackJackDealer(2500, shoe);
+        DealerOutcomeCalculator calculator = new DealerOutcomeCalculator();
+
+        shoe.setCards(List.of(Card.ofBlackJack(Suit.Spades, 14), Card.ofBlackJack(Suit.Hearts, 9),
+                              Card.ofBlackJack(Suit.Clubs, 13), Card.ofBlackJack(Suit.Clubs, 8)));
+        dealer.receiveCard(dealer.deal(), false);
+        dealer.receiveCard(dealer.deal(), true);
+
+        // Act - the hidden Ace and the King and 8 left are equally likely to be the hole card under a 9
+        double[] distribution = calculator.distribution(dealer);
+        int cached = calculator.getCacheSize();
+
+        // Assert - 9-A, 9-K and 9-8 all stay, on 20, 19 and 17
+        assertEquals(1.0 / 3, distribution[20 - 17], 1e-12);
+        assertEquals(1.0 / 3, distribution[19 - 17], 1e-12);
+        assertEquals(1.0 / 3, distribution[17 - 17], 1e-12);
+        assertEquals(0.0, distribution[DealerOutcomeCalculator.BLACKJACK], 1e-12);
+        assertArrayEquals(distribution, calculator.distribution(dealer));
+        assertEquals(cached, calculator.getCacheSize());
+    }
+
+    @Test
+    @DisplayName("The cache never holds more compositions than it was given room for.")
+    void cacheBoundTest()
+    {
+        // Arrange
+        DealerOutcomeCalculator calculator = new DealerOutcomeCalculator(100);
+        int[] composition = DealerOutcomeCalculator.composition(new Shoe(2).getCards());
+
+        // Act
+        double[] distribution = calculator.distribution(composition, 5);
+
+        // Assert
+        assertTrue(calculator.getCacheSize() <= 100);
+        assertArrayEquals(distribution, new DealerOutcomeCalculator().distribution(composition, 5), 1e-12);
+        assertThrows(IllegalArgumentException.class, () -> new DealerOutcomeCalculator(0));
+        assertThrows(IllegalArgumentException.class, () -> calculator.distribution(new int[12], 5));
+    }
+
+    @Test
+    @DisplayName("An up card worth less than 2 or more than 11 is rejected before anything is cached.")
+    void invalidUpCardTest()
+    {
+        // Arrange
+        DealerOutcomeCalculator calculator = new DealerOutcomeCalculator();
+        int[] composition = DealerOutcomeCalculator.composition(new Shoe(1).getCards());
+
+        // Act
+        IllegalArgumentException low = assertThrows(IllegalArgumentException.class,
+                                                    () -> calculator.distribution(composition, 1));
+        IllegalArgumentException high = assertThrows(IllegalArgumentException.class,
+                                                     () -> calculator.distribution(composition, 12));
+
+        // Assert
+        assertNotNull(low.getMessage());
+        assertNotNull(high.getMessage());
+        assertEquals(0, calculator.getCacheSize());
+    }
+}
@@ -6,7 +6,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.HashSet;
 import java.util.stream.Stream;
 
 /**
@@ -90,4 +92,36 @@ public class DeckTest
 
         assertFalse(cardsEqual);
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @MethodSource("deckSource")
+    @DisplayName("Dealing counts the deck down, and shuffling brings every card back without duplicates.")
+    public void deckDealAndShuffleTest(Deck deck)
+    {
+        for (int i = 0; i < 52; i++)
+        {
+            assertNotNull(deck.deal());
+            assertEquals(51 - i, deck.cardsLeftInDeck());
+        }
+
+        assertNull(deck.deal());
+
+        deck.shuffle();
+
+        assertEquals(52, deck.cardsLeftInDeck());
+        assertEquals(52, new HashSet<>(deck.getCards()).size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"L64X128MixRandom", "SplittableRandom", "Xoshiro256PlusPlus"})
+    @DisplayName("Two decks shuffled by generators with the same algorithm and seed come out in the same order.")
+    public void deckSeededShuffleTest(String algorithm)
+    {
+        Deck deck1 = new BlackJackDeck(RandomSource.create(algorithm, 42));
+        Deck deck2 = new BlackJackDeck(RandomSource.create(algorithm, 42));
+        Deck deck3 = new Shoe(6, 0.75, RandomSource.split(RandomSource.create(algorithm, 42)));
+
+        assertEquals(deck1.getCards(), deck2.getCards());
+        assertNotEquals(deck1.getCards(), deck3.getCards().subList(0, 52));
+    }
+}
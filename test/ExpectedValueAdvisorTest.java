@@ -0,0 +1,135 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The test class ExpectedValueAdvisorTest.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class ExpectedValueAdvisorTest
+{
+    private static final Card TEN = Card.ofBlackJack(Suit.Spades, 10);
+    private static final Card SIX = Card.ofBlackJack(Suit.Hearts, 6);
+    private static final Card FIVE = Card.ofBlackJack(Suit.Clubs, 5);
+
+    @Test
+    @DisplayName("With a full six-deck shoe the values are close to basic strategy's infinite-shoe values.")
+    void fullShoeTest()
+    {
+        // Arrange
+        ExpectedValueAdvisor advisor = new ExpectedValueAdvisor();
+        double[] values = new double[BlackJackAction.values().length];
+        List<Card> hand = List.of(TEN, SIX);
+        int[] unseen = DealerOutcomeCalculator.composition(new Shoe(6).getCards());
+
+        unseen[10] -= 2;
+        unseen[6]--;
+
+        // Act
+        advisor.expectedValues(hand, 10, unseen, values);
+
+        // Assert
+        for (BlackJackAction action : BlackJackAction.values())
+        {
+            assertEquals(BasicStrategy.expectedValue(BlackJackHandState.hard(16), 10, action), values[action.ordinal()],
+                         0.01, action.getCommand());
+        }
+        assertEquals(BlackJackAction.SURRENDER, ExpectedValueAdvisor.bestAction(values, true));
+    }
+
+    @Test
+    @DisplayName("A shoe short of tens turns a surrender on 16 against a 10 into a hit.")
+    void compositionTest()
+    {
+        // Arrange
+        ExpectedValueAdvisor advisor = new ExpectedValueAdvisor();
+        double[] values = new double[BlackJackAction.values().length];
+        int[] unseen = new int[12];
+
+        for (int value = 2; value <= 11; value++)
+        {
+            unseen[value] = (value == 10) ? 2 : 20;
+        }
+
+        // Act
+        advisor.expectedValues(List.of(TEN, SIX), 10, unseen, values);
+
+        // Assert
+        assertEquals(BlackJackAction.HIT, ExpectedValueAdvisor.bestAction(values, false));
+        assertTrue(values[BlackJackAction.HIT.ordinal()] > values[BlackJackAction.STAY.ordinal()]);
+    }
+
+    @Test
+    @DisplayName("A later decision in the same round gives the values worked out at its start.")
+    void roundCacheTest()
+    {
+        // Arrange
+        ExpectedValueAdvisor advisor = new ExpectedValueAdvisor();
+        double[] first = new double[BlackJackAction.values().length];
+        double[] later = new double[BlackJackAction.values().length];
+        double[] fresh = new double[BlackJackAction.values().length];
+        List<Card> hand = new ArrayList<>(List.of(SIX, FIVE));
+        int[] unseen = DealerOutcomeCalculator.composition(new Shoe(2).getCards());
+
+        unseen[6]--;
+        unseen[5]--;
+        unseen[9]--;
+        advisor.expectedValues(hand, 9, unseen, first);
+
+        // Act - the player hits and draws a 5, which leaves the shoe
+        hand.add(FIVE);
+        unseen[5]--;
+        advisor.expectedValues(hand, 9, unseen, later);
+        new ExpectedValueAdvisor().expectedValues(hand, 9, unseen, fresh);
+
+        // Assert - hitting 11 is worth the average of what each drawn card leads to, 16 included
+        assertArrayEquals(fresh, later);
+        assertTrue(first[BlackJackAction.HIT.ordinal()] > later[BlackJackAction.HIT.ordinal()]);
+        assertTrue(first[BlackJackAction.HIT.ordinal()] > first[BlackJackAction.STAY.ordinal()]);
+    }
+
+    @Test
+    @DisplayName("Exact dealer chances from the calculator barely move the values for a big shoe.")
+    void exactDealerTest()
+    {
+        // Arrange
+        ExpectedValueAdvisor fast = new ExpectedValueAdvisor();
+        ExpectedValueAdvisor exact = new ExpectedValueAdvisor(new DealerOutcomeCalculator());
+        double[] fastValues = new double[BlackJackAction.values().length];
+        double[] exactValues = new double[BlackJackAction.values().length];
+        int[] unseen = DealerOutcomeCalculator.composition(new Shoe(6).getCards());
+
+        unseen[10]--;
+        unseen[2]--;
+        unseen[7]--;
+
+        // Act
+        fast.expectedValues(List.of(TEN, Card.ofBlackJack(Suit.Hearts, 2)), 7, unseen, fastValues);
+        exact.expectedValues(List.of(TEN, Card.ofBlackJack(Suit.Hearts, 2)), 7, unseen, exactValues);
+
+        // Assert
+        assertArrayEquals(fastValues, exactValues, 0.005);
+    }
+
+    @Test
+    @DisplayName("As a bot in a simulation, the advisor reads the cards left from the dealer's shoe.")
+    void strategyTest()
+    {
+        // Arrange
+        BlackJackDealer dealer = new BlackJackDealer(2500, new Shoe(6, 0.75, RandomSource.create("L64X128MixRandom", 8)));
+        BlackJackSimulation simulation = new BlackJackSimulation(dealer, new ExpectedValueAdvisor().strategy(dealer), 10);
+
+        // Act
+        SimulationStats stats = simulation.run(20_000, 1000);
+
+        // Assert - counting the cards left should do about as well as basic strategy, which loses about 1-2%
+        assertEquals(20_000, stats.getRounds());
+        assertTrue(stats.getExpectedValue() > -0.05);
+    }
+}
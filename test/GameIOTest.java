@@ -0,0 +1,90 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The test class GameIOTest.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class GameIOTest
+{
+    @Test
+    @DisplayName("Lines are split on any line terminator, and a last line without one is still read.")
+    void readLineTest() throws IOException
+    {
+        // Arrange
+        GameIO io = new GameIO(new StringReader("10\nhit\r\nstay\r\rno"), new PrintStream(new ByteArrayOutputStream()));
+
+        // Act
+        String[] lines = { io.readLine(), io.readLine(), io.readLine(), io.readLine(), io.readLine(), io.readLine() };
+
+        // Assert
+        assertArrayEquals(new String[] { "10", "hit", "stay", "", "no", null }, lines);
+    }
+
+    @Test
+    @DisplayName("A line longer than the buffer is read whole.")
+    void longLineTest() throws IOException
+    {
+        // Arrange
+        String longLine = "x".repeat(GameIO.BUFFER_SIZE * 2 + 5);
+        GameIO io = new GameIO(new StringReader(longLine + "\r\nyes\n"), new PrintStream(new ByteArrayOutputStream()));
+
+        // Act
+        String first = io.readLine();
+        String second = io.readLine();
+
+        // Assert
+        assertEquals(longLine, first);
+        assertEquals("yes", second);
+        assertNull(io.readLine());
+    }
+
+    @Test
+    @DisplayName("Output is held back until flush().")
+    void flushTest()
+    {
+        // Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        GameIO io = new GameIO(new ByteArrayInputStream(new byte[0]), output);
+
+        // Act
+        io.getOut().println("Place your bets!");
+        int beforeFlush = output.size();
+        io.flush();
+
+        // Assert
+        assertEquals(0, beforeFlush);
+        assertEquals("Place your bets!" + System.lineSeparator(), output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("A table plays a scripted game from a Reader without touching System.in.")
+    void tableFromReaderTest()
+    {
+        // Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(output, false, StandardCharsets.UTF_8);
+        BlackJackTable table = new BlackJackTable(new GameIO(new StringReader("ten\n10\nstay\nno\n"), out));
+
+        // Act
+        GameResult result = table.play();
+
+        // Assert
+        String transcript = output.toString(StandardCharsets.UTF_8);
+        assertEquals(GameResult.Ending.PLAYER_LEFT, result.getEnding());
+        assertTrue(transcript.contains("Please enter a whole number without any characters"));
+        assertTrue(transcript.contains("You bet $10"));
+        assertTrue(transcript.endsWith("Thanks for playing!" + System.lineSeparator()));
+    }
+}
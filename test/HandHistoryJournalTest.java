@@ -0,0 +1,152 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The test class HandHistoryJournalTest.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class HandHistoryJournalTest
+{
+    @Test
+    @DisplayName("A table writes each round it plays, and the reader gets back its cards, actions and stashes.")
+    void tableRoundsTest() throws Exception
+    {
+        // Arrange
+        Path directory = Files.createTempDirectory("hands");
+        BlackJackTable table = new BlackJackTable(new PrintStream(OutputStream.nullOutputStream()));
+
+        try (HandHistoryJournal journal = new HandHistoryJournal(directory))
+        {
+            table.setJournal(journal);
+
+            // Act: three rounds of betting 10 and staying
+            table.start();
+            for (int round = 0; round < 3; round++)
+            {
+                table.step("10");
+                table.step("stay");
+                table.step("yes");
+            }
+        }
+
+        // Assert
+        HandHistoryRecord record = new HandHistoryRecord();
+        int rounds = 0;
+
+        try (HandHistoryReader reader = new HandHistoryReader(directory))
+        {
+            while (reader.next(record))
+            {
+                assertEquals(1, record.getTableId());
+                assertEquals(rounds, record.getRound());
+                assertEquals(10, record.getBet());
+                assertEquals(20, record.getPot());
+                assertEquals(3000, record.getPlayerStash() + record.getDealerStash());
+                assertTrue(record.getCardCount() >= 4);
+                assertFalse(record.isDealerCard(0));
+                assertTrue(record.isDealerCard(2));
+                assertTrue(record.toString().contains("table 1 round " + rounds));
+                rounds++;
+            }
+        }
+
+        assertEquals(3, rounds);
+        assertEquals(table.getPlayer().getStash(), record.getPlayerStash());
+        assertEquals(table.getDealer().getStash(), record.getDealerStash());
+    }
+
+    @Test
+    @DisplayName("Rounds roll over into new segments, and a reopened journal carries on after its last round.")
+    void segmentsAndReopenTest() throws Exception
+    {
+        // Arrange
+        Path directory = Files.createTempDirectory("hands");
+        HandHistoryRecord record = new HandHistoryRecord();
+        long firstTable;
+
+        // Act
+        try (HandHistoryJournal journal = new HandHistoryJournal(directory, 1024))
+        {
+            firstTable = journal.nextTableId();
+            appendRounds(journal, record, firstTable, 0, 50);
+        }
+        try (HandHistoryJournal journal = new HandHistoryJournal(directory, 1024))
+        {
+            assertEquals(firstTable + 1, journal.nextTableId());
+            appendRounds(journal, record, firstTable, 50, 100);
+        }
+
+        // Assert
+        int expected = 0;
+
+        try (HandHistoryReader reader = new HandHistoryReader(directory))
+        {
+            while (reader.next(record))
+            {
+                assertEquals(expected, record.getRound());
+                assertEquals(CardCodec.encode(Suit.Hearts, 2 + expected % 13), record.getCard(0));
+                assertEquals(BlackJackAction.HIT, record.getAction(0));
+                assertEquals(BlackJackOutcome.PLAYER_BUST, record.getOutcome());
+                expected++;
+            }
+        }
+
+        assertEquals(100, expected);
+        assertTrue(Files.exists(HandHistoryJournal.segmentPath(directory, 4)));
+    }
+
+    @Test
+    @DisplayName("A reopened journal takes the next table id from its last segment's header, without reading the rest.")
+    void reopenReadsLastSegmentTest() throws Exception
+    {
+        // Arrange
+        Path directory = Files.createTempDirectory("hands");
+        HandHistoryRecord record = new HandHistoryRecord();
+
+        try (HandHistoryJournal journal = new HandHistoryJournal(directory, 1024))
+        {
+            appendRounds(journal, record, 7, 0, 10);
+            appendRounds(journal, record, 2, 10, 60);
+        }
+
+        // The first segment, the only one holding table 7, is no longer a readable segment
+        Files.write(HandHistoryJournal.segmentPath(directory, 0), new byte[16]);
+
+        // Act
+        long nextTable;
+
+        try (HandHistoryJournal journal = new HandHistoryJournal(directory, 1024))
+        {
+            nextTable = journal.nextTableId();
+        }
+
+        // Assert
+        assertEquals(8, nextTable);
+        assertTrue(Files.exists(HandHistoryJournal.segmentPath(directory, 2)));
+    }
+
+    private static void appendRounds(HandHistoryJournal journal, HandHistoryRecord record, long table, int from, int to)
+        throws Exception
+    {
+        for (int round = from; round < to; round++)
+        {
+            record.clear(table, round);
+            record.addCard(Card.ofBlackJack(Suit.Hearts, 2 + round % 13), false);
+            record.addCard(Card.ofBlackJack(Suit.Spades, 10), false);
+            record.addCard(Card.ofBlackJack(Suit.Clubs, 9), true);
+            record.addCard(Card.ofBlackJack(Suit.Clubs, 8), true);
+            record.addAction(BlackJackAction.HIT);
+            record.setResult(BlackJackOutcome.PLAYER_BUST, 10, 20, false, 490, 2510, 1_700_000_000_000L + round);
+            journal.append(record);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.random.RandomGenerator;
+
+/**
+ * The test class HandHistoryReplayTest.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class HandHistoryReplayTest
+{
+    private static final String[] COMMANDS = { "stay", "hit", "surrender", "double down" };
+
+    @Test
+    @DisplayName("Rounds recorded from two tables with every kind of action replay to the same outcomes and stashes.")
+    void replayMatchesTest() throws Exception
+    {
+        // Arrange
+        Path directory = Files.createTempDirectory("hands");
+        RandomGenerator random = RandomSource.create("L64X128MixRandom", 11);
+
+        try (HandHistoryJournal journal = new HandHistoryJournal(directory))
+        {
+            BlackJackTable first = recordingTable(journal);
+            BlackJackTable second = recordingTable(journal);
+
+            for (int round = 0; round < 200; round++)
+            {
+                playRound(first, random);
+                playRound(second, random);
+            }
+        }
+
+        // Act
+        HandHistoryReplay replay = new HandHistoryReplay();
+        boolean matched = replay.verify(directory);
+
+        // Assert
+        assertTrue(matched, () -> String.join("\n", replay.getMismatches()));
+        assertTrue(replay.getRounds() > 2);
+        assertEquals(0, replay.getMismatchCount());
+    }
+
+    @Test
+    @DisplayName("A round whose recorded stashes don't follow from its cards and actions is reported.")
+    void replayMismatchTest()
+    {
+        // Arrange: the player stays on 19 against the dealer's 17, but the record says the player lost
+        HandHistoryRecord record = new HandHistoryRecord();
+        record.clear(1, 0);
+        record.addCard(Card.ofBlackJack(Suit.Hearts, 10), false);
+        record.addCard(Card.ofBlackJack(Suit.Hearts, 9), false);
+        record.addCard(Card.ofBlackJack(Suit.Clubs, 10), true);
+        record.addCard(Card.ofBlackJack(Suit.Clubs, 7), true);
+        record.addAction(BlackJackAction.STAY);
+        record.setResult(BlackJackOutcome.DEALER_WINS, 10, 20, false, 490, 2510, 0);
+
+        // Act
+        HandHistoryReplay replay = new HandHistoryReplay();
+        boolean matched = replay.replay(record);
+
+        // Assert
+        assertFalse(matched);
+        assertEquals(1, replay.getMismatchCount());
+        assertTrue(replay.getMismatches().getFirst().contains("outcome PLAYER_WINS, recorded DEALER_WINS"));
+    }
+
+    private static BlackJackTable recordingTable(HandHistoryJournal journal)
+    {
+        BlackJackTable table = new BlackJackTable(new PrintStream(OutputStream.nullOutputStream()));
+
+        table.setJournal(journal);
+        table.start();
+
+        return table;
+    }
+
+    private static void playRound(BlackJackTable table, RandomGenerator random)
+    {
+        if (table.isOver())
+        {
+            return;
+        }
+
+        table.step(Integer.toString(Math.min(10, table.getPlayer().getStash())));
+
+        while (table.getLastOutcome() == null)
+        {
+            table.step(COMMANDS[random.nextInt(COMMANDS.length)]);
+        }
+
+        if (!table.isOver())
+        {
+            table.step("yes");
+        }
+    }
+}
@@ -8,6 +8,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 
@@ -66,7 +67,7 @@ public class PlayerTest
     @DisplayName("When receiveCard is called, the player's hand will now contain the card specified.")
     void playerReceiveCardTest(Player p)
     {
-        Card c1 = new Card(Suit.Clubs, 6, true, "6");
+        Card c1 = new Card(Suit.Clubs, 6, "6");
 
         p.receiveCard(c1, true);
 
@@ -101,12 +102,72 @@ public class PlayerTest
     {
         Player p = new BlackJackPlayer();
 
-        p.receiveCard(new Card(Suit.Clubs, 10, true, "Queen"), true);
-        p.receiveCard(new Card(Suit.Clubs, 11, true, "Ace"), true);
+        p.receiveCard(new Card(Suit.Clubs, 10, "Queen"), true);
+        p.receiveCard(new Card(Suit.Clubs, 11, "Ace"), true);
 
         assertEquals(p.scoreHand(), 21);
     }
     
+    @Test
+    @DisplayName("Aces are downgraded from 11 to 1 one at a time until the hand no longer busts.")
+    void blackJackPlayerScoreHandAcesTest()
+    {
+        BlackJackPlayer p = new BlackJackPlayer();
+
+        p.receiveCard(new Card(Suit.Clubs, 11, "Ace"), true);
+        p.receiveCard(new Card(Suit.Hearts, 11, "Ace"), true);
+        assertEquals(12, p.scoreHand());
+        assertTrue(p.isSoft());
+        assertFalse(p.hasBlackJack());
+
+        p.receiveCard(new Card(Suit.Spades, 9, "9"), true);
+        assertEquals(21, p.scoreHand());
+
+        p.receiveCard(new Card(Suit.Spades, 10, "King"), true);
+        assertEquals(21, p.scoreHand());
+        assertFalse(p.isSoft());
+
+        p.receiveCard(new Card(Suit.Diamonds, 5, "5"), true);
+        assertEquals(26, p.scoreHand());
+    }
+
+    @Test
+    @DisplayName("A Jack worth 11 is scored as 11, not as an Ace.")
+    void blackJackPlayerElevenJackTest()
+    {
+        BlackJackPlayer p = new BlackJackPlayer();
+
+        p.receiveCard(Card.of(Suit.Clubs, 11), true);
+        p.receiveCard(new Card(Suit.Hearts, 11, "Jack"), true);
+        assertEquals(22, p.scoreHand());
+        assertFalse(p.isSoft());
+
+        p.clearHand();
+        p.receiveCard(new Card(Suit.Spades, 11, "Jack"), true);
+        p.receiveCard(new Card(Suit.Diamonds, 10, "King"), true);
+        assertEquals(21, p.scoreHand());
+        assertFalse(p.hasBlackJack());
+    }
+
+    @Test
+    @DisplayName("A face-down card is left out of the score until it is revealed, but still counts towards a Blackjack.")
+    void blackJackPlayerHiddenCardTest()
+    {
+        BlackJackPlayer p = new BlackJackPlayer();
+
+        p.receiveCard(new Card(Suit.Clubs, 11, "Ace"), false);
+        p.receiveCard(new Card(Suit.Hearts, 10, "King"), true);
+        assertEquals(10, p.scoreHand());
+        assertTrue(p.hasBlackJack());
+
+        p.showAllCards();
+        assertEquals(21, p.scoreHand());
+
+        p.clearHand();
+        assertEquals(0, p.scoreHand());
+        assertFalse(p.hasBlackJack());
+    }
+
     // scoreHand test
     @Test
     @DisplayName("When a straight is the highest rank in a poker player's hand, the player gains 600 points plus the sum" +
@@ -115,9 +176,9 @@ public class PlayerTest
     {
         Player p = new PokerPlayer();
 
-        p.receiveCard(new Card(Suit.Clubs, 6, true, "6"), true);
-        p.receiveCard(new Card(Suit.Spades, 7, true, "7"), true);
-        p.receiveCard(new Card(Suit.Hearts, 8, true, "Ace"), true);
+        p.receiveCard(new Card(Suit.Clubs, 6, "6"), true);
+        p.receiveCard(new Card(Suit.Spades, 7, "7"), true);
+        p.receiveCard(new Card(Suit.Hearts, 8, "Ace"), true);
 
         assertEquals(621, p.scoreHand());
     }
@@ -129,9 +190,9 @@ public class PlayerTest
     {
         Player p = new PokerPlayer();
 
-        p.receiveCard(new Card(Suit.Clubs, 12, true, "Queen"), true);
-        p.receiveCard(new Card(Suit.Spades, 13, true, "King"), true);
-        p.receiveCard(new Card(Suit.Hearts, 14, true, "Ace"), true);
+        p.receiveCard(new Card(Suit.Clubs, 12, "Queen"), true);
+        p.receiveCard(new Card(Suit.Spades, 13, "King"), true);
+        p.receiveCard(new Card(Suit.Hearts, 14, "Ace"), true);
 
         assertEquals(639, p.scoreHand());
     }
@@ -143,13 +204,43 @@ public class PlayerTest
     {
         Player p = new PokerPlayer();
 
-        p.receiveCard(new Card(Suit.Clubs, 12, true, "Queen"), true);
-        p.receiveCard(new Card(Suit.Spades, 13, true, "King"), true);
-        p.receiveCard(new Card(Suit.Hearts, 14, true, "Ace"), true);
+        p.receiveCard(new Card(Suit.Clubs, 12, "Queen"), true);
+        p.receiveCard(new Card(Suit.Spades, 13, "King"), true);
+        p.receiveCard(new Card(Suit.Hearts, 14, "Ace"), true);
 
         assertEquals(639, p.scoreHand());
     }
 
+    @Test
+    @DisplayName("An Ace, 2 and 3 form the lowest straight, with the Ace counted as 1.")
+    void pokerPlayerScoreHandTest_AceTwoThree()
+    {
+        Player p = new PokerPlayer();
+
+        p.receiveCard(Card.of(Suit.Clubs, 14), true);
+        p.receiveCard(Card.of(Suit.Spades, 2), true);
+        p.receiveCard(Card.of(Suit.Hearts, 3), true);
+
+        assertEquals(606, p.scoreHand());
+    }
+
+    @Test
+    @DisplayName("Scoring a poker hand leaves the player's cards in the order they were received.")
+    void pokerPlayerScoreHandKeepsOrderTest()
+    {
+        Player p = new PokerPlayer();
+        Card c1 = Card.of(Suit.Clubs, 13);
+        Card c2 = Card.of(Suit.Spades, 2);
+        Card c3 = Card.of(Suit.Hearts, 9);
+
+        p.receiveCard(c1, true);
+        p.receiveCard(c2, true);
+        p.receiveCard(c3, true);
+        p.scoreHand();
+
+        assertEquals(List.of(c1, c2, c3), p.getHand());
+    }
+
     @Test
     @DisplayName("When a flush is the highest rank in a poker player's hand, the player gains 400 points plus the sum" +
             "of the values of the cards in their hand.")
@@ -157,9 +248,9 @@ public class PlayerTest
     {
         Player p = new PokerPlayer();
 
-        p.receiveCard(new Card(Suit.Clubs, 6, true, "6"), true);
-        p.receiveCard(new Card(Suit.Clubs, 9, true, "7"), true);
-        p.receiveCard(new Card(Suit.Clubs, 2, true, "8"), true);
+        p.receiveCard(new Card(Suit.Clubs, 6, "6"), true);
+        p.receiveCard(new Card(Suit.Clubs, 9, "7"), true);
+        p.receiveCard(new Card(Suit.Clubs, 2, "8"), true);
 
         assertEquals(417, p.scoreHand());
     }
@@ -171,9 +262,9 @@ public class PlayerTest
     {
         Player p = new PokerPlayer();
 
-        p.receiveCard(new Card(Suit.Clubs, 6, true, "6"), true);
-        p.receiveCard(new Card(Suit.Clubs, 7, true, "7"), true);
-        p.receiveCard(new Card(Suit.Clubs, 8, true, "8"), true);
+        p.receiveCard(new Card(Suit.Clubs, 6, "6"), true);
+        p.receiveCard(new Card(Suit.Clubs, 7, "7"), true);
+        p.receiveCard(new Card(Suit.Clubs, 8, "8"), true);
 
         assertEquals(1021, p.scoreHand());
     }
@@ -185,9 +276,9 @@ public class PlayerTest
     {
         Player p = new PokerPlayer();
 
-        p.receiveCard(new Card(Suit.Clubs, 6, true, "6"), true);
-        p.receiveCard(new Card(Suit.Hearts, 6, true, "6"), true);
-        p.receiveCard(new Card(Suit.Spades, 6, true, "6"), true);
+        p.receiveCard(new Card(Suit.Clubs, 6, "6"), true);
+        p.receiveCard(new Card(Suit.Hearts, 6, "6"), true);
+        p.receiveCard(new Card(Suit.Spades, 6, "6"), true);
 
         assertEquals(818, p.scoreHand());
     }
@@ -199,9 +290,9 @@ public class PlayerTest
     {
         Player p = new PokerPlayer();
 
-        p.receiveCard(new Card(Suit.Clubs, 6, true, "6"), true);
-        p.receiveCard(new Card(Suit.Spades, 7, true, "7"), true);
-        p.receiveCard(new Card(Suit.Hearts, 6, true, "6"), true);
+        p.receiveCard(new Card(Suit.Clubs, 6, "6"), true);
+        p.receiveCard(new Card(Suit.Spades, 7, "7"), true);
+        p.receiveCard(new Card(Suit.Hearts, 6, "6"), true);
 
         assertEquals(219, p.scoreHand());
     }
@@ -213,9 +304,9 @@ public class PlayerTest
     {
         Player p = new PokerPlayer();
 
-        p.receiveCard(new Card(Suit.Clubs, 3, true, "6"), true);
-        p.receiveCard(new Card(Suit.Hearts, 7, true, "7"), true);
-        p.receiveCard(new Card(Suit.Clubs, 13, true, "King"), true);
+        p.receiveCard(new Card(Suit.Clubs, 3, "6"), true);
+        p.receiveCard(new Card(Suit.Hearts, 7, "7"), true);
+        p.receiveCard(new Card(Suit.Clubs, 13, "King"), true);
 
         assertEquals(123, p.scoreHand());
     }
@@ -227,11 +318,11 @@ public class PlayerTest
     void playerClearHandTest(Player p1, Player p2)
     {
         // Act - both receive the same cards.  p2 will be empty after clear hand, while p1 will not
-        p1.receiveCard(new Card(Suit.Clubs, 10, true, "Queen"), true);
-        p1.receiveCard(new Card(Suit.Clubs, 11, true, "Ace"), true);
+        p1.receiveCard(new Card(Suit.Clubs, 10, "Queen"), true);
+        p1.receiveCard(new Card(Suit.Clubs, 11, "Ace"), true);
         
-        p2.receiveCard(new Card(Suit.Clubs, 10, true, "Queen"), true);
-        p2.receiveCard(new Card(Suit.Clubs, 11, true, "Ace"), true);
+        p2.receiveCard(new Card(Suit.Clubs, 10, "Queen"), true);
+        p2.receiveCard(new Card(Suit.Clubs, 11, "Ace"), true);
         
         p2.clearHand();
 
@@ -247,15 +338,15 @@ public class PlayerTest
     void playerShowAllCardsTest(Player p1)
     {
         // Player receives a card face down
-        p1.receiveCard(new Card(Suit.Clubs, 6, true, "6"), false);
+        p1.receiveCard(new Card(Suit.Clubs, 6, "6"), false);
 
-        // isVisible returns false as the card is not visible
-        assertFalse(p1.getHand().getFirst().isVisible());
+        // isCardVisible returns false as the card is not visible
+        assertFalse(p1.isCardVisible(0));
 
         // showAllCards makes the card in the player's hand visible
         p1.showAllCards();
 
-        // isVisible now returns true
-        assertTrue(p1.getHand().getFirst().isVisible());
+        // isCardVisible now returns true
+        assertTrue(p1.isCardVisible(0));
     }
 }
\ No newline at end of file
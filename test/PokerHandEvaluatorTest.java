@@ -0,0 +1,132 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The test class PokerHandEvaluatorTest.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class PokerHandEvaluatorTest
+{
+    private static byte[] newDeck()
+    {
+        byte[] deck = new byte[52];
+        int i = 0;
+
+        for (Suit suit : Suit.values())
+        {
+            for (int rank = 2; rank <= 14; rank++)
+            {
+                deck[i++] = CardCodec.encode(suit, rank);
+            }
+        }
+
+        return deck;
+    }
+
+    @Test
+    @DisplayName("Over all 2,598,960 five-card hands, each category occurs as often as the combinatorics say it should.")
+    void fiveCardCategoryCountsTest()
+    {
+        byte[] d = newDeck();
+        int[] counts = new int[9];
+
+        for (int a = 0; a < 52; a++)
+        {
+            for (int b = a + 1; b < 52; b++)
+            {
+                for (int c = b + 1; c < 52; c++)
+                {
+                    for (int e = c + 1; e < 52; e++)
+                    {
+                        for (int f = e + 1; f < 52; f++)
+                        {
+                            int strength = PokerHandEvaluator.evaluate5(d[a], d[b], d[c], d[e], d[f]);
+
+                            counts[PokerHandEvaluator.category(strength)]++;
+                        }
+                    }
+                }
+            }
+        }
+
+        assertArrayEquals(new int[] {1302540, 1098240, 123552, 54912, 10200, 5108, 3744, 624, 40}, counts);
+    }
+
+    @Test
+    @DisplayName("A seven-card hand is worth exactly as much as the best of its 21 five-card hands.")
+    void sevenCardMatchesBestFiveTest()
+    {
+        RandomGenerator random = RandomSource.create("L64X128MixRandom", 9);
+        byte[] d = newDeck();
+
+        for (int round = 0; round < 20000; round++)
+        {
+            // Partial Fisher–Yates: the first seven cards become a random hand
+            for (int i = 0; i < 7; i++)
+            {
+                int j = i + random.nextInt(52 - i);
+                byte card = d[i];
+                d[i] = d[j];
+                d[j] = card;
+            }
+
+            int best = 0;
+
+            for (int skip1 = 0; skip1 < 7; skip1++)
+            {
+                for (int skip2 = skip1 + 1; skip2 < 7; skip2++)
+                {
+                    byte[] five = new byte[5];
+                    int n = 0;
+
+                    for (int i = 0; i < 7; i++)
+                    {
+                        if (i != skip1 && i != skip2)
+                        {
+                            five[n++] = d[i];
+                        }
+                    }
+
+                    best = Math.max(best, PokerHandEvaluator.evaluate(five, 0, 5));
+                }
+            }
+
+            assertEquals(best, PokerHandEvaluator.evaluate7(d[0], d[1], d[2], d[3], d[4], d[5], d[6]));
+        }
+    }
+
+    @Test
+    @DisplayName("Kickers break ties within a category, and the wheel is the lowest straight.")
+    void kickersAndWheelTest()
+    {
+        PokerPlayer p1 = new PokerPlayer();
+        PokerPlayer p2 = new PokerPlayer();
+        PokerPlayer p3 = new PokerPlayer();
+        int[][] board = {{9, 0}, {9, 1}, {5, 2}, {4, 3}, {2, 0}};
+
+        for (int[] card : board)
+        {
+            p1.receiveCard(Card.of(Suit.values()[card[1]], card[0]), true);
+            p2.receiveCard(Card.of(Suit.values()[card[1]], card[0]), true);
+            p3.receiveCard(Card.of(Suit.values()[card[1]], card[0]), true);
+        }
+
+        p1.receiveCard(Card.of(Suit.Hearts, 13), true);
+        p1.receiveCard(Card.of(Suit.Hearts, 7), true);
+        p2.receiveCard(Card.of(Suit.Spades, 13), true);
+        p2.receiveCard(Card.of(Suit.Spades, 6), true);
+        p3.receiveCard(Card.of(Suit.Spades, 14), true);
+        p3.receiveCard(Card.of(Suit.Spades, 3), true);
+
+        assertEquals("Pair", PokerHandEvaluator.describe(p1.getHandStrength()));
+        assertTrue(p1.getHandStrength() > p2.getHandStrength());
+        assertEquals("Straight", PokerHandEvaluator.describe(p3.getHandStrength()));
+        assertEquals(PokerHandEvaluator.STRAIGHT << 20 | 3, p3.getHandStrength());
+    }
+}
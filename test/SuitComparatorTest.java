@@ -15,9 +15,9 @@ public class SuitComparatorTest
     public void setUp()
     {
         cardComparator = new CardComparator();
-        c1 = new Card(Suit.Clubs, 10, true, "Jack");
-        c2 = new Card(Suit.Diamonds, 6, true, "Six");
-        c3 = new Card(Suit.Clubs, 10, true, "Jack");
+        c1 = new Card(Suit.Clubs, 10, "Jack");
+        c2 = new Card(Suit.Diamonds, 6, "Six");
+        c3 = new Card(Suit.Clubs, 10, "Jack");
     }
 
     @AfterEach
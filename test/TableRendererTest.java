@@ -0,0 +1,85 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The test class TableRendererTest.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class TableRendererTest
+{
+    @Test
+    @DisplayName("printPlayers() writes exactly what printing each player's toString() would.")
+    void matchesToStringTest()
+    {
+        // Arrange
+        BlackJackPlayer player = new BlackJackPlayer("Player", 490);
+        BlackJackDealer dealer = new BlackJackDealer(2490);
+        player.receiveCard(Card.ofBlackJack(Suit.Hearts, 12), true);
+        player.receiveCard(Card.ofBlackJack(Suit.Spades, 7), true);
+        dealer.receiveCard(Card.ofBlackJack(Suit.Clubs, 14), false);
+        dealer.receiveCard(new Card(Suit.Diamonds, 9, "Nine"), true);
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        ByteArrayOutputStream rendered = new ByteArrayOutputStream();
+        PrintStream expectedOut = new PrintStream(expected, true, StandardCharsets.UTF_8);
+
+        // Act
+        expectedOut.println(player.toString());
+        expectedOut.println(dealer.toString());
+        new TableRenderer(false).printPlayers(new PrintStream(rendered, true, StandardCharsets.UTF_8), player, dealer);
+
+        // Assert
+        assertEquals(expected.toString(StandardCharsets.UTF_8), rendered.toString(StandardCharsets.UTF_8));
+        assertEquals("Player has $490\nCurrent points: 17\nQueen of Hearts\n7 of Spades\n", player.toString());
+        assertTrue(dealer.toString().endsWith("Hidden Card\nNine of Diamonds\n"));
+    }
+
+    @Test
+    @DisplayName("Suit symbols replace suit names when asked for.")
+    void suitSymbolsTest()
+    {
+        // Arrange
+        TableRenderer renderer = new TableRenderer(true);
+        BlackJackPlayer player = new BlackJackPlayer("Player", 500);
+        player.receiveCard(Card.ofBlackJack(Suit.Hearts, 12), true);
+        BlackJackDealer dealer = new BlackJackDealer(2500);
+        ByteArrayOutputStream rendered = new ByteArrayOutputStream();
+
+        // Act
+        String card = renderer.appendCard(new StringBuilder(), Card.of(Suit.Spades, 14)).toString();
+        renderer.printPlayers(new PrintStream(rendered, true, StandardCharsets.UTF_8), player, dealer);
+
+        // Assert
+        assertEquals("Ace of \u2660", card);
+        assertTrue(rendered.toString(StandardCharsets.UTF_8).contains("Queen of \u2665\n"));
+        assertEquals("Queen of Hearts", new TableRenderer(false).appendCard(new StringBuilder(),
+                                                                            Card.of(Suit.Hearts, 12)).toString());
+    }
+
+    @Test
+    @DisplayName("The renderer's buffer is reused from one call to the next.")
+    void renderReusesBufferTest()
+    {
+        // Arrange
+        TableRenderer renderer = new TableRenderer(false);
+        BlackJackPlayer player = new BlackJackPlayer("Player", 500);
+        player.receiveCard(Card.ofBlackJack(Suit.Clubs, 5), true);
+
+        // Act
+        CharSequence first = renderer.render(player);
+        String firstText = first.toString();
+        CharSequence second = renderer.render(player);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(player.toString(), firstText);
+    }
+}
@@ -0,0 +1,68 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The test class ThreeCardEvaluatorTest.
+ *
+ * @author Tyler Lang
+ * @version 2025.04.03
+ */
+public class ThreeCardEvaluatorTest
+{
+    @Test
+    @DisplayName("Over all 22,100 three-card hands, each hand rank occurs as often as the combinatorics say it should.")
+    void handRankCountsTest()
+    {
+        Card[] deck = new Card[52];
+        int[] counts = new int[11];
+        int i = 0;
+
+        for (Suit suit : Suit.values())
+        {
+            for (int rank = 2; rank <= 14; rank++)
+            {
+                deck[i++] = Card.of(suit, rank);
+            }
+        }
+
+        for (int a = 0; a < 52; a++)
+        {
+            for (int b = a + 1; b < 52; b++)
+            {
+                for (int c = b + 1; c < 52; c++)
+                {
+                    int score = ThreeCardEvaluator.evaluate(deck[a], deck[c], deck[b]);
+
+                    counts[score / 100]++;
+                    assertEquals(score, ThreeCardEvaluator.evaluate(
+                            CardCodec.encode(deck[b]), CardCodec.encode(deck[a]), CardCodec.encode(deck[c])));
+                }
+            }
+        }
+
+        assertEquals(48, counts[10]);     // straight flush
+        assertEquals(52, counts[8]);      // three of a kind
+        assertEquals(720, counts[6]);     // straight
+        assertEquals(1096, counts[4]);    // flush
+        assertEquals(3744, counts[2]);    // pair
+        assertEquals(16440, counts[1]);   // high card
+    }
+
+    @Test
+    @DisplayName("A hand holding the same suit and value twice is rejected rather than scored as another hand.")
+    void duplicateCardTest()
+    {
+        // Arrange
+        Card king = Card.of(Suit.Hearts, 13);
+        Card sameKing = new Card(Suit.Hearts, 13, "King");
+        Card two = Card.of(Suit.Clubs, 2);
+
+        // Act / Assert
+        assertThrows(IllegalArgumentException.class, () -> ThreeCardEvaluator.evaluate(king, sameKing, two));
+        assertThrows(IllegalArgumentException.class, () -> ThreeCardEvaluator.evaluate(two, king, king));
+        assertThrows(IllegalArgumentException.class, () -> ThreeCardEvaluator.evaluate(
+                CardCodec.encode(two), CardCodec.encode(two), CardCodec.encode(king)));
+    }
+}